@@ -0,0 +1,195 @@
+package com.project.backend.bench;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Seeds the bench database before the application reports ready: users
+ * (bench-user-N@bench.local / {@value #PASSWORD}), videos with Zipf-distributed
+ * tags, and Zipf-distributed likes. All videos share one sample file on disk.
+ * Rows are written with JDBC batches; the identity columns are moved past the
+ * generated ids so uploads and registrations during the run still work.
+ */
+@Slf4j
+@Component
+@Profile("bench")
+@RequiredArgsConstructor
+public class BenchDataGenerator implements ApplicationRunner {
+    public static final String PASSWORD = "benchpass1";
+    private static final int BATCH_SIZE = 1000;
+    private static final String VIDEO_PATH = "videos/bench-sample.mp4";
+    private static final String THUMBNAIL_PATH = "thumbnails/bench-sample.jpg";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${bench.users}")
+    private int userCount;
+
+    @Value("${bench.videos}")
+    private int videoCount;
+
+    @Value("${bench.tags}")
+    private int tagCount;
+
+    @Value("${bench.likes}")
+    private int likeCount;
+
+    @Value("${bench.zipf-exponent}")
+    private double zipfExponent;
+
+    @Value("${bench.video-size-bytes}")
+    private int videoSizeBytes;
+
+    @Value("${bench.seed}")
+    private long seed;
+
+    @Value("${file.upload-dir}")
+    private String uploadDir;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long started = System.currentTimeMillis();
+        Random random = new Random(seed);
+
+        writeSampleFiles(random);
+        insertUsers();
+        insertTags();
+        insertVideos(random);
+        int likes = insertLikes(random);
+
+        restartIdentity("users", userCount);
+        restartIdentity("tags", tagCount);
+        restartIdentity("videos", videoCount);
+        restartIdentity("likes", likes);
+
+        log.info("Bench data generated in {} ms: {} users, {} videos, {} tags, {} likes",
+                System.currentTimeMillis() - started, userCount, videoCount, tagCount, likes);
+    }
+
+    private void writeSampleFiles(Random random) throws Exception {
+        byte[] video = new byte[videoSizeBytes];
+        random.nextBytes(video);
+        byte[] thumbnail = new byte[16 * 1024];
+        random.nextBytes(thumbnail);
+
+        Path videoFile = Paths.get(uploadDir, VIDEO_PATH);
+        Path thumbnailFile = Paths.get(uploadDir, THUMBNAIL_PATH);
+        Files.createDirectories(videoFile.getParent());
+        Files.createDirectories(thumbnailFile.getParent());
+        Files.write(videoFile, video);
+        Files.write(thumbnailFile, thumbnail);
+    }
+
+    private void insertUsers() {
+        // One hash for everyone: hashing thousands of passwords would dominate the setup time
+        String hash = passwordEncoder.encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= userCount; id++) {
+            rows.add(new Object[]{id, "bench-user-" + id + "@bench.local", "bench_" + id, hash,
+                    "Bench", "User" + id, true, now});
+            flushIfFull("INSERT INTO users (id, email, username, password, first_name, last_name, activated, created_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows, id == userCount);
+        }
+    }
+
+    private void insertTags() {
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= tagCount; id++) {
+            rows.add(new Object[]{id, "tag" + id});
+            flushIfFull("INSERT INTO tags (id, name) VALUES (?, ?)", rows, id == tagCount);
+        }
+    }
+
+    private void insertVideos(Random random) {
+        ZipfSampler tagPopularity = new ZipfSampler(tagCount, zipfExponent);
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+        List<Object[]> videos = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> videoTags = new ArrayList<>(BATCH_SIZE * 4);
+
+        for (long id = 1; id <= videoCount; id++) {
+            long uploader = 1 + random.nextInt(userCount);
+            LocalDateTime createdAt = start.plusMinutes(random.nextInt(365 * 24 * 60));
+            videos.add(new Object[]{id, "Bench video " + id, "Generated video " + id + " for load testing.",
+                    VIDEO_PATH, THUMBNAIL_PATH, (long) videoSizeBytes, Timestamp.valueOf(createdAt),
+                    random.nextInt(4) == 0 ? "Novi Sad, Serbia" : null, uploader, 0, 0, 0, 0L});
+
+            Set<Integer> tags = new HashSet<>();
+            int tagsPerVideo = 1 + random.nextInt(8);
+            while (tags.size() < Math.min(tagsPerVideo, tagCount)) {
+                tags.add(tagPopularity.next(random) + 1);
+            }
+            for (int tag : tags) {
+                videoTags.add(new Object[]{id, (long) tag});
+            }
+
+            boolean last = id == videoCount;
+            flushIfFull("INSERT INTO videos (id, title, description, video_path, thumbnail_path, file_size, created_at, " +
+                    "location, user_id, view_count, like_count, comment_count, unique_viewers) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    videos, last);
+            // Tag rows reference the videos, so they go out only right after a video batch has
+            if (videos.isEmpty() && !videoTags.isEmpty()) {
+                jdbcTemplate.batchUpdate("INSERT INTO video_tags (video_id, tag_id) VALUES (?, ?)", videoTags);
+                videoTags.clear();
+            }
+        }
+    }
+
+    private int insertLikes(Random random) {
+        ZipfSampler videoPopularity = new ZipfSampler(videoCount, zipfExponent);
+        int target = (int) Math.min(likeCount, (long) userCount * videoCount / 2);
+        Set<Long> pairs = new HashSet<>(target * 2);
+        int[] likesPerVideo = new int[videoCount + 1];
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        long id = 0;
+        while (pairs.size() < target) {
+            long user = 1 + random.nextInt(userCount);
+            int video = videoPopularity.next(random) + 1;
+            if (!pairs.add(user * (videoCount + 1) + video)) {
+                continue;
+            }
+            likesPerVideo[video]++;
+            rows.add(new Object[]{++id, user, (long) video, now});
+            flushIfFull("INSERT INTO likes (id, user_id, video_id, created_at) VALUES (?, ?, ?, ?)",
+                    rows, pairs.size() == target);
+        }
+
+        List<Object[]> counts = new ArrayList<>();
+        for (int video = 1; video <= videoCount; video++) {
+            if (likesPerVideo[video] > 0) {
+                counts.add(new Object[]{likesPerVideo[video], (long) video});
+            }
+        }
+        jdbcTemplate.batchUpdate("UPDATE videos SET like_count = ? WHERE id = ?", counts);
+        return target;
+    }
+
+    private void flushIfFull(String sql, List<Object[]> rows, boolean last) {
+        if (rows.size() >= BATCH_SIZE || (last && !rows.isEmpty())) {
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    private void restartIdentity(String table, long maxId) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (maxId + 1));
+    }
+}
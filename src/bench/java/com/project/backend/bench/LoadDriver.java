@@ -0,0 +1,379 @@
+package com.project.backend.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load driver for a running backend (normally the bench
+ * profile). Each worker repeatedly picks an operation from the configured mix
+ * and a video by Zipf popularity, measures the latency and, after warm-up,
+ * records it. Reports throughput and p50/p99/p999 per endpoint as JSON.
+ *
+ * <pre>
+ * --base-url=http://localhost:8080 --concurrency=64 --warmup=10 --duration=60
+ * --mix=feed:50,video:20,stream:20,like:8,upload:2 --users=50
+ * --stream-chunk=1048576 --upload-size=262144 --zipf=1.1 --out=target/bench/report.json
+ * </pre>
+ *
+ * Workers run on virtual threads when the JVM has them (Java 21+), otherwise
+ * on one platform thread each.
+ */
+public class LoadDriver {
+    private static final ObjectMapper JSON = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String BOUNDARY = "----bench-boundary-7MA4YWxkTrZu0gW";
+
+    private final Map<String, String> options;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final List<String> tokens = new ArrayList<>();
+    private List<Long> videoIds;
+    private String[] operations;
+    private double[] operationWeights;
+    private ZipfSampler videoPopularity;
+    private byte[] uploadBody;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (arg.startsWith("--") && eq > 2) {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        new LoadDriver(options).run();
+    }
+
+    LoadDriver(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = option("base-url", "http://localhost:8080");
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    void run() throws Exception {
+        int concurrency = Integer.parseInt(option("concurrency", "64"));
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(option("warmup", "10")));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(option("duration", "60")));
+
+        setUp();
+
+        ExecutorService executor = newExecutor(concurrency);
+        boolean virtual = !(executor instanceof java.util.concurrent.ThreadPoolExecutor);
+        System.out.printf("Running %d workers on %s threads: %ds warm-up, %ds measured%n", concurrency,
+                virtual ? "virtual" : "platform", warmupNanos / 1_000_000_000L, durationNanos / 1_000_000_000L);
+
+        long startedAt = System.nanoTime();
+        long measureFrom = startedAt + warmupNanos;
+        long measureUntil = measureFrom + durationNanos;
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(i, measureFrom, measureUntil);
+            workers.add(worker);
+            executor.submit(worker);
+        }
+        executor.shutdown();
+        executor.awaitTermination(durationNanos + warmupNanos + TimeUnit.MINUTES.toNanos(2), TimeUnit.NANOSECONDS);
+
+        writeReport(workers, concurrency, virtual, durationNanos, warmupNanos);
+    }
+
+    private void setUp() throws Exception {
+        parseMix(option("mix", "feed:50,video:20,stream:20,like:8,upload:2"));
+
+        int users = Integer.parseInt(option("users", "50"));
+        for (int i = 1; i <= users; i++) {
+            String body = JSON.writeValueAsString(Map.of(
+                    "email", "bench-user-" + i + "@bench.local",
+                    "password", BenchDataGenerator.PASSWORD));
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri("/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed for bench user " + i + ": " + response.body());
+            }
+            tokens.add(JSON.readTree(response.body()).get("token").asText());
+        }
+
+        HttpResponse<String> feed = client.send(HttpRequest.newBuilder(uri("/api/videos")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        videoIds = new ArrayList<>();
+        for (JsonNode video : JSON.readTree(feed.body())) {
+            videoIds.add(video.get("id").asLong());
+        }
+        if (videoIds.isEmpty()) {
+            throw new IllegalStateException("No videos found; start the backend with the bench profile first");
+        }
+        Collections.sort(videoIds);
+        videoPopularity = new ZipfSampler(videoIds.size(), Double.parseDouble(option("zipf", "1.1")));
+        uploadBody = multipartUpload(Integer.parseInt(option("upload-size", "262144")));
+
+        System.out.printf("Logged in %d users, %d videos available%n", tokens.size(), videoIds.size());
+    }
+
+    private class Worker implements Runnable {
+        final Random random;
+        final long measureFrom;
+        final long measureUntil;
+        final Map<String, LongList> latencies = new HashMap<>();
+        final Map<String, Long> errors = new HashMap<>();
+
+        Worker(int index, long measureFrom, long measureUntil) {
+            this.random = new Random(index * 7919L + 1);
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            for (String operation : operations) {
+                latencies.put(operation, new LongList());
+                errors.put(operation, 0L);
+            }
+        }
+
+        @Override
+        public void run() {
+            long now;
+            while ((now = System.nanoTime()) < measureUntil) {
+                String operation = pickOperation(random);
+                boolean ok;
+                try {
+                    ok = execute(operation, random);
+                } catch (Exception e) {
+                    ok = false;
+                }
+                long end = System.nanoTime();
+                if (now >= measureFrom && end <= measureUntil) {
+                    latencies.get(operation).add(end - now);
+                    if (!ok) {
+                        errors.merge(operation, 1L, Long::sum);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean execute(String operation, Random random) throws Exception {
+        long videoId = videoIds.get(videoPopularity.next(random));
+        String token = tokens.isEmpty() ? null : tokens.get(random.nextInt(tokens.size()));
+        HttpRequest.Builder request;
+
+        switch (operation) {
+            case "feed" -> request = HttpRequest.newBuilder(uri("/api/videos")).GET();
+            case "video" -> request = HttpRequest.newBuilder(uri("/api/videos/" + videoId)).GET();
+            case "stream" -> request = HttpRequest.newBuilder(uri("/api/videos/" + videoId + "/stream"))
+                    .header("Range", "bytes=0-" + (Long.parseLong(option("stream-chunk", "1048576")) - 1))
+                    .GET();
+            case "like" -> request = HttpRequest.newBuilder(uri("/api/videos/" + videoId + "/like"))
+                    .POST(HttpRequest.BodyPublishers.noBody());
+            case "upload" -> request = HttpRequest.newBuilder(uri("/api/videos"))
+                    .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(uploadBody));
+            default -> throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+
+        HttpResponse<Void> response = client.send(request.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() < 400;
+    }
+
+    private void writeReport(List<Worker> workers, int concurrency, boolean virtual,
+                             long durationNanos, long warmupNanos) throws Exception {
+        double seconds = durationNanos / 1e9;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        LongList all = new LongList();
+        long allErrors = 0;
+
+        System.out.printf("%n%-8s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (String operation : operations) {
+            LongList merged = new LongList();
+            long errors = 0;
+            for (Worker worker : workers) {
+                merged.addAll(worker.latencies.get(operation));
+                errors += worker.errors.get(operation);
+            }
+            all.addAll(merged);
+            allErrors += errors;
+            Map<String, Object> stats = stats(merged, errors, seconds);
+            endpoints.put(operation, stats);
+            print(operation, stats);
+        }
+        Map<String, Object> total = stats(all, allErrors, seconds);
+        print("total", total);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("baseUrl", baseUrl);
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("workerThreads", virtual ? "virtual" : "platform");
+        report.put("concurrency", concurrency);
+        report.put("warmupSeconds", warmupNanos / 1_000_000_000L);
+        report.put("durationSeconds", durationNanos / 1_000_000_000L);
+        report.put("mix", option("mix", "feed:50,video:20,stream:20,like:8,upload:2"));
+        report.put("videos", videoIds.size());
+        report.put("endpoints", endpoints);
+        report.put("total", total);
+
+        Path out = Paths.get(option("out", "target/bench/report.json"));
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        JSON.writeValue(out.toFile(), report);
+        System.out.println("\nReport written to " + out.toAbsolutePath());
+    }
+
+    private static Map<String, Object> stats(LongList latencies, long errors, double seconds) {
+        long[] sorted = latencies.toSortedArray();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", sorted.length);
+        stats.put("errors", errors);
+        stats.put("throughputPerSecond", round(sorted.length / seconds));
+        stats.put("p50Ms", millis(percentile(sorted, 0.50)));
+        stats.put("p99Ms", millis(percentile(sorted, 0.99)));
+        stats.put("p999Ms", millis(percentile(sorted, 0.999)));
+        stats.put("maxMs", millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        return stats;
+    }
+
+    private static void print(String name, Map<String, Object> stats) {
+        System.out.printf("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n", name,
+                stats.get("requests"), stats.get("errors"), stats.get("throughputPerSecond"),
+                stats.get("p50Ms"), stats.get("p99Ms"), stats.get("p999Ms"), stats.get("maxMs"));
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private void parseMix(String mix) {
+        List<String> names = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        double total = 0;
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            double weight = Double.parseDouble(pair[1]);
+            if (weight > 0) {
+                names.add(pair[0]);
+                total += weight;
+                weights.add(total);
+            }
+        }
+        operations = names.toArray(new String[0]);
+        operationWeights = new double[weights.size()];
+        for (int i = 0; i < weights.size(); i++) {
+            operationWeights[i] = weights.get(i) / total;
+        }
+    }
+
+    private String pickOperation(Random random) {
+        double r = random.nextDouble();
+        for (int i = 0; i < operationWeights.length; i++) {
+            if (r < operationWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static byte[] multipartUpload(int videoSize) throws Exception {
+        byte[] video = new byte[videoSize];
+        new Random(1).nextBytes(video);
+        byte[] thumbnail = new byte[8 * 1024];
+        new Random(2).nextBytes(thumbnail);
+        String data = JSON.writeValueAsString(Map.of(
+                "title", "Load test upload",
+                "description", "Uploaded by the load driver",
+                "tags", List.of("bench", "upload")));
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writePart(body, "video", "bench.mp4", "video/mp4", video);
+        writePart(body, "thumbnail", "bench.jpg", "image/jpeg", thumbnail);
+        writePart(body, "data", null, "application/json", data.getBytes(StandardCharsets.UTF_8));
+        body.write(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return body.toByteArray();
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String name, String filename,
+                                  String contentType, byte[] content) throws Exception {
+        String disposition = "form-data; name=\"" + name + "\"" +
+                (filename != null ? "; filename=\"" + filename + "\"" : "");
+        body.write(("--" + BOUNDARY + "\r\nContent-Disposition: " + disposition +
+                "\r\nContent-Type: " + contentType + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        body.write(content);
+        body.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static ExecutorService newExecutor(int concurrency) {
+        try {
+            // Java 21+: one virtual thread per worker; looked up reflectively so the driver builds on 17
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(concurrency);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    // Growable primitive list: no boxing for millions of latency samples
+    private static class LongList {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(LongList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        long[] toSortedArray() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
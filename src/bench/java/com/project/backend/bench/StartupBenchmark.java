@@ -0,0 +1,187 @@
+package com.project.backend.bench;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Starts the packaged backend several times per launch mode and measures time
+ * to "Started" (JVM start to context refreshed, from the log) and to ready
+ * (launch to /actuator/health/readiness returning 200, which includes the
+ * startup warm-up). Runs from the build directory of the aot profile:
+ *
+ * <pre>
+ * java src/bench/java/com/project/backend/bench/StartupBenchmark.java --runs=5 --dir=target
+ * </pre>
+ *
+ * Modes: jar (fat jar), aot (thin jar, AOT initializers) and aot-cds (plus the
+ * AppCDS archive); modes whose files are missing are skipped. JDK-only so it
+ * runs as a single source file without compiling the bench sources.
+ */
+public class StartupBenchmark {
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in [\\d.]+ seconds \\(process running for ([\\d.]+)\\)");
+
+    private final Map<String, String> options;
+    private final Path dir;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (arg.startsWith("--") && eq > 2) {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        new StartupBenchmark(options).run();
+    }
+
+    StartupBenchmark(Map<String, String> options) {
+        this.options = options;
+        this.dir = Paths.get(options.getOrDefault("dir", ".")).toAbsolutePath().normalize();
+    }
+
+    void run() throws Exception {
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        long timeoutMs = Long.parseLong(options.getOrDefault("timeout-ms", "180000"));
+        Path logs = dir.resolve("startup-bench");
+        Files.createDirectories(logs);
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("jar", List.of("-jar", "backend-exec.jar"));
+        modes.put("aot", List.of("-Dspring.aot.enabled=true", "-jar", "backend.jar"));
+        modes.put("aot-cds", List.of("-XX:SharedArchiveFile=backend.jsa", "-Dspring.aot.enabled=true", "-jar", "backend.jar"));
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        System.out.printf("%n%-8s %5s %15s %15s %13s%n", "mode", "runs", "started p50 ms", "ready p50 ms", "ready min ms");
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            if (!files(mode.getValue()).stream().allMatch(file -> Files.exists(dir.resolve(file)))) {
+                System.out.printf("%-8s skipped, %s not found%n", mode.getKey(), files(mode.getValue()));
+                continue;
+            }
+            List<Long> started = new ArrayList<>();
+            List<Long> ready = new ArrayList<>();
+            for (int i = 0; i < runs; i++) {
+                long[] run = launch(mode.getValue(), logs.resolve(mode.getKey() + "-" + i + ".log"), timeoutMs);
+                started.add(run[0]);
+                ready.add(run[1]);
+            }
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("runs", runs);
+            stats.put("startedP50Ms", median(started));
+            stats.put("readyP50Ms", median(ready));
+            stats.put("readyMinMs", Collections.min(ready));
+            stats.put("startedMs", started);
+            stats.put("readyMs", ready);
+            results.put(mode.getKey(), stats);
+            System.out.printf("%-8s %5d %15d %15d %13d%n", mode.getKey(), runs,
+                    stats.get("startedP50Ms"), stats.get("readyP50Ms"), stats.get("readyMinMs"));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("modes", results);
+        Path out = logs.resolve("report.json");
+        Files.writeString(out, toJson(report) + "\n");
+        System.out.println("\nReport written to " + out);
+    }
+
+    // {started ms, ready ms}
+    private long[] launch(List<String> launchArgs, Path log, long timeoutMs) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        command.addAll(launchArgs);
+        command.add("--server.port=" + port);
+
+        long launchedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            HttpRequest readiness = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness"))
+                    .timeout(Duration.ofSeconds(1))
+                    .build();
+            long deadline = launchedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Backend exited with " + process.exitValue() + ", see " + log);
+                }
+                if (System.nanoTime() - deadline > 0) {
+                    throw new IllegalStateException("Backend not ready after " + timeoutMs + " ms, see " + log);
+                }
+                try {
+                    if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(50);
+            }
+            long readyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - launchedAt);
+
+            Matcher matcher = STARTED.matcher(Files.readString(log));
+            long startedMs = matcher.find() ? Math.round(Double.parseDouble(matcher.group(1)) * 1000) : -1;
+            return new long[]{startedMs, readyMs};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static List<String> files(List<String> launchArgs) {
+        List<String> files = new ArrayList<>();
+        for (String arg : launchArgs) {
+            if (arg.endsWith(".jar")) {
+                files.add(arg);
+            } else if (arg.startsWith("-XX:SharedArchiveFile=")) {
+                files.add(arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return files;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return sorted.get((sorted.size() - 1) / 2);
+    }
+
+    private static String toJson(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            StringJoiner json = new StringJoiner(", ", "{", "}");
+            map.forEach((key, item) -> json.add("\"" + key + "\": " + toJson(item)));
+            return json.toString();
+        }
+        if (value instanceof List<?> list) {
+            StringJoiner json = new StringJoiner(", ", "[", "]");
+            list.forEach(item -> json.add(toJson(item)));
+            return json.toString();
+        }
+        return value instanceof Number ? value.toString() : "\"" + value + "\"";
+    }
+}
@@ -0,0 +1,58 @@
+package com.project.backend.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a feed page the way the MVC message converter does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VideoResponseSerializationBenchmark {
+    @Param({"20", "100", "1000"})
+    private int videoCount;
+
+    private ObjectMapper objectMapper;
+    private List<VideoResponse> videos;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring Boot applies to the application's ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        videos = new ArrayList<>(videoCount);
+        for (long i = 0; i < videoCount; i++) {
+            VideoResponse video = new VideoResponse();
+            video.setId(i);
+            video.setTitle("Video " + i);
+            video.setDescription("A description of typical length for a video in the feed.");
+            video.setVideoUrl("/api/videos/" + i + "/stream");
+            video.setThumbnailUrl("/api/videos/" + i + "/thumbnail");
+            video.setTags(List.of("music", "live", "novi-sad"));
+            video.setLocation("Novi Sad, Serbia");
+            video.setCreatedAt(LocalDateTime.now());
+            video.setUserId(i % 50);
+            video.setUsername("user" + i % 50);
+            video.setViewCount(1234);
+            video.setLikeCount(56);
+            video.setUniqueViewers(812L);
+            video.setIsLikedByCurrentUser(i % 3 == 0);
+            videos.add(video);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeFeed() throws Exception {
+        return objectMapper.writeValueAsBytes(videos);
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.backend.security;
+
+import com.project.backend.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+    private JwtUtils jwtUtils;
+    private AuthenticationCache authenticationCache;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", "benchmarkSecretKeyThatIsLongEnoughForHmacSha256Signing");
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpiration", 900_000L);
+        jwtUtils.init();
+
+        authenticationCache = new AuthenticationCache(jwtUtils, new TokenRevocationList(jwtUtils), new SimpleMeterRegistry(),
+                10_000, 300_000);
+
+        user = new User();
+        user.setId(42L);
+        user.setEmail("bench@example.com");
+        user.setUsername("bench_user");
+        user.setActivated(true);
+        token = jwtUtils.generateAccessToken(user, "session-1");
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateAccessToken(user, "session-1");
+    }
+
+    // Full signature check and claims parse, what every request paid before the token cache
+    @Benchmark
+    public Object parseAndVerify() {
+        return jwtUtils.parseToken(token);
+    }
+
+    // Steady state of the request filter: token already verified once
+    @Benchmark
+    public User authenticateCached() {
+        return authenticationCache.authenticate(token);
+    }
+}
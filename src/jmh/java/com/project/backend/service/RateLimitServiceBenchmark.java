@@ -0,0 +1,60 @@
+package com.project.backend.service;
+
+import com.project.backend.config.RateLimitProperties;
+import com.project.backend.util.RateLimitDecision;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cost of one rate limit check with 8 threads, either all hitting the same key
+ * (worst-case CAS contention) or each using its own key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class RateLimitServiceBenchmark {
+    @Param({"token-bucket", "sliding-window"})
+    private String policy;
+
+    private RateLimitService rateLimitService;
+
+    @State(Scope.Thread)
+    public static class ThreadKey {
+        private static final AtomicInteger NEXT = new AtomicInteger();
+        final String key = "ip:10.0.0." + NEXT.incrementAndGet();
+    }
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getPolicies().put("token-bucket", policy(RateLimitProperties.Algorithm.TOKEN_BUCKET));
+        properties.getPolicies().put("sliding-window", policy(RateLimitProperties.Algorithm.SLIDING_WINDOW));
+        rateLimitService = new RateLimitService(properties, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public RateLimitDecision sharedKey() {
+        return rateLimitService.tryConsume(policy, "ip:10.0.0.1");
+    }
+
+    @Benchmark
+    public RateLimitDecision keyPerThread(ThreadKey threadKey) {
+        return rateLimitService.tryConsume(policy, threadKey.key);
+    }
+
+    // Limit high enough that the measured path is "allowed", which does the CAS
+    private static RateLimitProperties.Policy policy(RateLimitProperties.Algorithm algorithm) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setAlgorithm(algorithm);
+        policy.setLimit(Long.MAX_VALUE / 4);
+        policy.setWindowMs(1000);
+        return policy;
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.backend.service;
+
+import com.project.backend.dto.VideoResponse;
+import com.project.backend.model.Tag;
+import com.project.backend.model.User;
+import com.project.backend.model.Video;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response mapping for an anonymous viewer (no like lookup), as
+ * done for every video of the feed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VideoServiceBenchmark {
+    @Param({"3", "50", "500"})
+    private int tagCount;
+
+    private VideoService videoService;
+    private Video video;
+
+    @Setup
+    public void setUp() {
+        videoService = new VideoService(null, null, null, null, null, null, null, null);
+
+        User user = new User();
+        user.setId(7L);
+        user.setUsername("uploader");
+
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            Tag tag = new Tag("tag-" + i);
+            tag.setId((long) i);
+            tags.add(tag);
+        }
+
+        video = new Video();
+        video.setId(1L);
+        video.setTitle("Benchmark video");
+        video.setDescription("A description of typical length for a video in the feed.");
+        video.setLocation("Novi Sad, Serbia");
+        video.setCreatedAt(LocalDateTime.now());
+        video.setUser(user);
+        video.setTags(tags);
+        video.setViewCount(1234);
+        video.setLikeCount(56);
+        video.setUniqueViewers(812L);
+    }
+
+    @Benchmark
+    public VideoResponse mapToResponse() {
+        return videoService.mapToResponse(video, null);
+    }
+}
@@ -1,9 +1,56 @@
 package com.project.backend.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+/**
+ * Spring caches are two-tier (see {@link TwoTierCache}). The shared tier is
+ * chosen with app.cache.shared-store: none (local only), in-memory or redis
+ * (connection from spring.data.redis.*).
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig {
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(ObjectProvider<SharedCacheStore> store,
+                                                     TwoTierCacheProperties properties) {
+        return new CacheInvalidationBus(store.getIfAvailable(), properties.getKeyPrefix());
+    }
+
+    @Bean
+    public TwoTierCacheManager cacheManager(TwoTierCacheProperties properties,
+                                            ObjectProvider<SharedCacheStore> store,
+                                            CacheInvalidationBus cacheInvalidationBus) {
+        return new TwoTierCacheManager(properties, store.getIfAvailable(), cacheInvalidationBus);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache", name = "shared-store", havingValue = "in-memory")
+    public SharedCacheStore inMemorySharedCacheStore() {
+        return new InMemorySharedCacheStore();
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "app.cache", name = "shared-store", havingValue = "redis")
+    static class RedisStoreConfig {
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+
+        @Bean
+        public SharedCacheStore redisSharedCacheStore(RedisConnectionFactory connectionFactory,
+                                                      RedisMessageListenerContainer cacheInvalidationListenerContainer) {
+            return new RedisSharedCacheStore(connectionFactory, cacheInvalidationListenerContainer);
+        }
+    }
 }
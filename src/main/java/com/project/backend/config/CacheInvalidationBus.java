@@ -0,0 +1,63 @@
+package com.project.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Tells the other instances to drop local copies of something that changed
+ * here. All topics share one channel of the shared store; a node ignores its
+ * own messages because it has already updated its local state. Without a
+ * shared store publishing is a no-op.
+ */
+@Slf4j
+public class CacheInvalidationBus {
+    private final SharedCacheStore store;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(SharedCacheStore store, String keyPrefix) {
+        this.store = store;
+        this.channel = keyPrefix + "invalidation";
+        if (store != null) {
+            store.subscribe(channel, this::receive);
+        }
+    }
+
+    public void publish(String topic, String payload) {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.publish(channel, nodeId + '\t' + topic + '\t' + payload);
+        } catch (RuntimeException e) {
+            // Other nodes keep their copy until its local TTL runs out
+            log.warn("Could not publish {} invalidation: {}", topic, e.getMessage());
+        }
+    }
+
+    // Listeners run on the store's delivery thread and must not block
+    public void subscribe(String topic, Consumer<String> listener) {
+        listeners.computeIfAbsent(topic, t -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    private void receive(String message) {
+        String[] parts = message.split("\t", 3);
+        if (parts.length < 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        for (Consumer<String> listener : listeners.getOrDefault(parts[1], List.of())) {
+            try {
+                listener.accept(parts[2]);
+            } catch (RuntimeException e) {
+                log.warn("Invalidation listener for {} failed", parts[1], e);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.backend.config;
+
+import com.project.backend.model.Video;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Second-level cache evictions for changes Hibernate doesn't see (JDBC
+ * updates) or only sees locally (each node has its own Ehcache). Evictions
+ * run after commit, here and on the other nodes via the invalidation bus.
+ * <p>
+ * A single video is invalidated with a soft lock (lock and unlock right away)
+ * rather than removed: a reader that read the row before the commit would
+ * put the old state back after a plain evict. The unlocked soft lock refuses
+ * puts from transactions that started before it, the same way Hibernate
+ * guards its own READ_WRITE updates.
+ */
+@Component
+public class EntityCacheInvalidator {
+    private static final String TOPIC = "entity";
+    private static final String ALL_VIDEOS = "videos";
+    private static final String VIDEO = "video:";
+    private static final String QUERY_RESULTS = "query-results";
+
+    private final Cache cache;
+    private final SessionFactoryImplementor sessionFactory;
+    private final CacheInvalidationBus bus;
+
+    public EntityCacheInvalidator(EntityManagerFactory entityManagerFactory, CacheInvalidationBus bus) {
+        this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.bus = bus;
+        bus.subscribe(TOPIC, this::apply);
+    }
+
+    public void evictVideo(Long id) {
+        afterCommit(VIDEO + id);
+    }
+
+    public void evictAllVideos() {
+        afterCommit(ALL_VIDEOS);
+    }
+
+    // Another node may have cached "no such row" for a query this transaction's inserts now match
+    public void evictQueryResults() {
+        afterCommit(QUERY_RESULTS);
+    }
+
+    // Evicting before commit would let a concurrent reader cache the old row again
+    private void afterCommit(String payload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(payload);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(payload);
+            }
+        });
+    }
+
+    private void evict(String payload) {
+        apply(payload);
+        bus.publish(TOPIC, payload);
+    }
+
+    private void apply(String payload) {
+        if (payload.startsWith(VIDEO)) {
+            invalidateVideo(Long.valueOf(payload.substring(VIDEO.length())));
+        } else if (payload.equals(ALL_VIDEOS)) {
+            cache.evict(Video.class);
+        } else if (payload.equals(QUERY_RESULTS)) {
+            cache.evictDefaultQueryRegion();
+        }
+    }
+
+    private void invalidateVideo(Long id) {
+        EntityPersister persister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Video.class);
+        EntityDataAccess access = persister.getCacheAccessStrategy();
+        if (access == null) {
+            return;
+        }
+        // The storage ignores the session, but the SPI wants one; a stateless session holds no connection
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            SharedSessionContractImplementor implementor = (SharedSessionContractImplementor) session;
+            Object key = access.generateCacheKey(id, persister, sessionFactory, null);
+            SoftLock lock = access.lockItem(implementor, key, null);
+            access.unlockItem(implementor, key, lock);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.backend.config;
+
+import com.project.backend.service.PasswordHashingService;
+import com.project.backend.service.UploadReaperJob;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Meters over state that services already keep. Request-path meters are
+ * registered where they are recorded (VideoMetrics, RateLimitService,
+ * AuthenticationCache); HikariCP, Hibernate, JVM and HTTP server meters come
+ * from Spring Boot's auto-configuration.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingService hashingService) {
+        return registry -> {
+            Gauge.builder("password.hashing.queue", hashingService, PasswordHashingService::getQueueSize)
+                    .description("Hashing tasks waiting for a thread")
+                    .register(registry);
+            Gauge.builder("password.hashing.active", hashingService, PasswordHashingService::getActiveCount)
+                    .description("Hashing threads currently busy")
+                    .register(registry);
+            FunctionCounter.builder("password.hashing.rejected", hashingService, PasswordHashingService::getRejectedCount)
+                    .description("Hashing requests refused with 503 because the pool was saturated")
+                    .register(registry);
+            FunctionTimer.builder("password.hashing.wait", hashingService,
+                            PasswordHashingService::getCompletedCount,
+                            PasswordHashingService::getTotalQueueNanos, TimeUnit.NANOSECONDS)
+                    .description("Time hashing tasks spent queued")
+                    .register(registry);
+            FunctionTimer.builder("password.hashing.duration", hashingService,
+                            PasswordHashingService::getCompletedCount,
+                            PasswordHashingService::getTotalHashNanos, TimeUnit.NANOSECONDS)
+                    .description("Time spent computing BCrypt hashes")
+                    .register(registry);
+        };
+    }
+
+    // Ehcache statistics per second-level cache region (gets, puts, evictions); Hibernate's own
+    // statistics (app.metrics.hibernate-statistics=true) add hibernate_second_level_cache_requests per region
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+            if (sessionFactory.getCache().getRegionFactory() instanceof JCacheRegionFactory regionFactory) {
+                javax.cache.CacheManager cacheManager = regionFactory.getCacheManager();
+                for (String region : cacheManager.getCacheNames()) {
+                    // Same tag keys as the other cache.* meters, which Prometheus requires
+                    JCacheMetrics.monitor(registry, cacheManager.getCache(region),
+                            Tags.of("cache.manager", "hibernate", "name", region));
+                }
+            }
+        };
+    }
+
+    // Local tier as cache.* (same tags Spring Boot gives Caffeine caches); shared tier lookups separately
+    @Bean
+    public MeterBinder twoTierCacheMetrics(TwoTierCacheManager cacheManager) {
+        return registry -> {
+            for (TwoTierCache cache : cacheManager.getCaches()) {
+                CaffeineCacheMetrics.monitor(registry, cache.getLocalCache(), cache.getName(),
+                        Tags.of("cache.manager", "cacheManager", "name", cache.getName()));
+                sharedRequests(registry, cache, "hit", TwoTierCache::getSharedHits);
+                sharedRequests(registry, cache, "miss", TwoTierCache::getSharedMisses);
+                sharedRequests(registry, cache, "error", TwoTierCache::getSharedErrors);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder uploadReaperMetrics(UploadReaperJob reaper) {
+        return registry -> {
+            FunctionCounter.builder("upload.orphans.deleted", reaper, UploadReaperJob::getStagingDeleted)
+                    .description("Upload files deleted by the reaper")
+                    .tag("area", "staging")
+                    .register(registry);
+            FunctionCounter.builder("upload.orphans.deleted", reaper, UploadReaperJob::getUnreferencedDeleted)
+                    .description("Upload files deleted by the reaper")
+                    .tag("area", "unreferenced")
+                    .register(registry);
+            FunctionCounter.builder("upload.orphans.promoted", reaper, UploadReaperJob::getStagingPromoted)
+                    .description("Staged files of committed uploads moved into place by the reaper")
+                    .register(registry);
+        };
+    }
+
+    private static void sharedRequests(MeterRegistry registry, TwoTierCache cache,
+                                       String result, ToDoubleFunction<TwoTierCache> count) {
+        FunctionCounter.builder("cache.shared.requests", cache, count)
+                .description("Shared cache tier lookups after a local miss")
+                .tag("cache", cache.getName())
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.backend.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Bound and validated at startup, so a bad policy fails the boot instead of the first request
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+    // Keys tracked per policy; the least valuable are evicted beyond this
+    @Positive
+    private long maxKeys = 100_000;
+
+    // Keys idle this long are dropped (never sooner than the policy window)
+    @Positive
+    private long idleEvictionMs = 600_000;
+
+    @Valid
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    public enum Algorithm {
+        TOKEN_BUCKET,
+        SLIDING_WINDOW
+    }
+
+    @Data
+    public static class Policy {
+        private Algorithm algorithm = Algorithm.TOKEN_BUCKET;
+
+        // Requests allowed per window (token bucket: tokens refilled per window)
+        @Positive
+        private long limit;
+
+        @Positive
+        private long windowMs;
+
+        // Token bucket only: bucket size, defaults to limit
+        @Positive
+        private Long burst;
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.backend.config;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Read-only transactions that will be routed to a replica read the
+ * second-level cache but never fill it (the equivalent of CacheMode.GET): a
+ * lagging replica row put in the shared cache would be served to everyone,
+ * sticky users included, until it is evicted. The cache is filled from the
+ * primary only.
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+    // Set as an entity manager property: EntityManager.find re-derives the session's
+    // cache mode from it, so Session.setCacheMode alone would be ignored
+    private static final String STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    private final ObjectProvider<ReplicaRoutingDataSource> routing;
+
+    public ReplicaReadJpaDialect(ObjectProvider<ReplicaRoutingDataSource> routing) {
+        this.routing = routing;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || !routing.getObject().routesReadsToReplica()) {
+            return transactionData;
+        }
+        Object previous = entityManager.getProperties().get(STORE_MODE);
+        entityManager.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        return new ReplicaReadData(transactionData, entityManager, previous);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaReadData data) {
+            // With open-in-view the entity manager outlives the transaction
+            data.entityManager().setProperty(STORE_MODE,
+                    data.previous() != null ? data.previous() : CacheStoreMode.USE);
+            super.cleanupTransaction(data.delegate());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+
+    private record ReplicaReadData(Object delegate, EntityManager entityManager, Object previous) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.project.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.backend.model.User;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica (round robin) and
+ * everything else to the primary. Must sit behind a LazyConnectionDataSourceProxy:
+ * the transaction's read-only flag is only known once it has begun.
+ *
+ * <p>A user whose write transaction committed reads from the primary for
+ * {@code stickinessMs}, so they see their own like or upload even if the
+ * replicas lag. Replicas failing the periodic health check, or failing to hand
+ * out a connection, are skipped until a later check passes.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Cache<Long, Boolean> stickyUsers;
+    private final int healthCheckTimeoutSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public static class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+    }
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<Replica> replicas,
+                                    long stickinessMs, int healthCheckTimeoutSeconds) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthCheckTimeoutSeconds = healthCheckTimeoutSeconds;
+        this.stickyUsers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(stickinessMs))
+                .maximumSize(100_000)
+                .build();
+        checkReplicas();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = chooseReplica();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            markUnhealthy(replica, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool");
+    }
+
+    /**
+     * Whether a read-only transaction starting now for the current user would go to a
+     * replica. Known before the transaction begins, unlike the routing decision itself.
+     */
+    public boolean routesReadsToReplica() {
+        Long userId = currentUserId();
+        if (userId != null && stickyUsers.getIfPresent(userId) != null) {
+            return false;
+        }
+        return replicas.stream().anyMatch(Replica::isHealthy);
+    }
+
+    // Null means the primary
+    private Replica chooseReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Auto-commit access (lazy loading after the transaction, plain JdbcTemplate) may write
+            return null;
+        }
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        stickyUsers.put(userId, Boolean.TRUE);
+                    }
+                });
+            }
+            return null;
+        }
+        if (userId != null && stickyUsers.getIfPresent(userId) != null) {
+            return null;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(healthCheckTimeoutSeconds);
+                if (!healthy) {
+                    replica.dataSource.evictConnection(connection);
+                }
+            } catch (SQLException e) {
+                healthy = false;
+            }
+
+            if (!healthy && replica.healthy) {
+                markUnhealthy(replica, null);
+            } else if (healthy && !replica.healthy) {
+                replica.healthy = true;
+                log.info("Replica {} is healthy again, routing reads to it", replica.name);
+            }
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    // The replica pools are owned here; the primary is a bean of its own
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private void markUnhealthy(Replica replica, SQLException cause) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Replica {} is unavailable, reads fall back to the primary: {}", replica.name,
+                    cause != null ? cause.getMessage() : "health check failed");
+        }
+        // Connections opened before the outage are dead; replace them once the replica is back
+        if (replica.dataSource.getHikariPoolMXBean() != null) {
+            replica.dataSource.getHikariPoolMXBean().softEvictConnections();
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReplicaRoutingProperties {
+    // Off by default: everything goes to spring.datasource
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // After a user's write commits, their reads stay on the primary this long (covers replication lag)
+    private long stickinessMs = 5_000;
+
+    private long healthCheckIntervalMs = 5_000;
+
+    // Connection validity timeout used by the health check
+    private int healthCheckTimeoutSeconds = 2;
+
+    // Replica pools fail fast so a dead replica does not stall reads; the primary takes over
+    private int replicaPoolSize = 10;
+    private long replicaConnectionTimeoutMs = 1_000;
+
+    @Data
+    public static class Replica {
+        private String url;
+
+        // Default to spring.datasource.username / password
+        private String username;
+        private String password;
+    }
+}
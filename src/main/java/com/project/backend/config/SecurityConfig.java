@@ -3,6 +3,7 @@ package com.project.backend.config;
 import com.project.backend.security.JwtAuthenticationFilter;
 import org.springframework.http.HttpMethod;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -30,8 +31,11 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health/**", "/actuator/prometheus").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/videos/**").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/videos/batch", "/api/videos/liked-status").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/videos").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/videos/*/like").authenticated()
                         .requestMatchers(HttpMethod.POST, "/api/videos/*/comments").authenticated()
@@ -43,7 +47,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        // Hashes with a lower cost are upgraded on the next successful login
+        return new BCryptPasswordEncoder(strength);
     }
 }
\ No newline at end of file
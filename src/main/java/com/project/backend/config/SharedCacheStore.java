@@ -0,0 +1,30 @@
+package com.project.backend.config;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Key-value store shared by all instances, plus a pub/sub channel between
+ * them. Implemented over Redis, and in memory for a single JVM and tests.
+ * Failures surface as runtime exceptions; callers treat the shared tier as
+ * optional and fall back to the local one.
+ */
+public interface SharedCacheStore {
+    byte[] get(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    void delete(String key);
+
+    void deleteByPrefix(String prefix);
+
+    // Expires after lease so a crashed owner can't block a key forever
+    boolean tryLock(String key, String owner, Duration lease);
+
+    // No-op unless the lock is still held by owner
+    void unlock(String key, String owner);
+
+    void publish(String channel, String message);
+
+    void subscribe(String channel, Consumer<String> listener);
+}
@@ -0,0 +1,298 @@
+package com.project.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded Caffeine tier in front of a shared tier. Reads try local, then
+ * shared; writes go to both and tell the other nodes to drop their local
+ * copy. Keys are compared by their string form in both tiers.
+ *
+ * <p>A miss loads once per key: concurrent callers on this node wait for the
+ * same load, and across nodes a short lock in the shared store lets one node
+ * load while the others poll for its result. If the shared store fails the
+ * cache keeps working from the local tier and the loader.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+    static final String TOPIC = "cache";
+
+    private static final RedisSerializer<Object> SERIALIZER = RedisSerializer.java();
+    private static final long POLL_INTERVAL_MS = 20;
+
+    private final String name;
+    private final Cache<String, Object> local;
+    private final SharedCacheStore store;
+    private final CacheInvalidationBus bus;
+    private final String sharedPrefix;
+    private final String lockOwner;
+    private final TwoTierCacheProperties.Spec spec;
+    private final TwoTierCacheProperties properties;
+    private final Map<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    private final LongAdder sharedHits = new LongAdder();
+    private final LongAdder sharedMisses = new LongAdder();
+    private final LongAdder sharedErrors = new LongAdder();
+
+    public TwoTierCache(String name, TwoTierCacheProperties properties, SharedCacheStore store,
+                        CacheInvalidationBus bus, String lockOwner) {
+        super(true);
+        this.name = name;
+        this.properties = properties;
+        this.spec = properties.specFor(name);
+        this.store = store;
+        this.bus = bus;
+        this.lockOwner = lockOwner;
+        this.sharedPrefix = properties.getKeyPrefix() + "cache:" + name + "::";
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.getLocalMaxSize())
+                .expireAfterWrite(spec.effectiveLocalTtlMs(), TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String k = String.valueOf(key);
+        Object stored = local.getIfPresent(k);
+        if (stored == null) {
+            stored = readShared(k);
+            if (stored != null) {
+                local.put(k, stored);
+            }
+        }
+        return stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String k = String.valueOf(key);
+        Object stored = local.getIfPresent(k);
+        if (stored != null) {
+            return (T) fromStoreValue(stored);
+        }
+
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(k, load);
+        if (inFlight != null) {
+            return (T) fromStoreValue(await(inFlight));
+        }
+        try {
+            // A load that finished between the first check and putIfAbsent
+            stored = local.getIfPresent(k);
+            if (stored == null) {
+                stored = loadThrough(k, key, valueLoader);
+                local.put(k, stored);
+            }
+            load.complete(stored);
+            return (T) fromStoreValue(stored);
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(k, load);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String k = String.valueOf(key);
+        Object stored = toStoreValue(value);
+        local.put(k, stored);
+        writeShared(k, stored);
+        bus.publish(TOPIC, name + '\t' + k);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String k = String.valueOf(key);
+        local.invalidate(k);
+        if (store != null) {
+            try {
+                store.delete(sharedPrefix + k);
+            } catch (RuntimeException e) {
+                sharedError("evict", e);
+            }
+        }
+        bus.publish(TOPIC, name + '\t' + k);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        if (store != null) {
+            try {
+                store.deleteByPrefix(sharedPrefix);
+            } catch (RuntimeException e) {
+                sharedError("clear", e);
+            }
+        }
+        bus.publish(TOPIC, name);
+    }
+
+    // Invalidation from another node: the shared tier is already up to date
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    public Cache<String, Object> getLocalCache() {
+        return local;
+    }
+
+    public long getSharedHits() {
+        return sharedHits.sum();
+    }
+
+    public long getSharedMisses() {
+        return sharedMisses.sum();
+    }
+
+    public long getSharedErrors() {
+        return sharedErrors.sum();
+    }
+
+    private Object loadThrough(String k, Object key, Callable<?> valueLoader) {
+        Object stored = readShared(k);
+        if (stored != null || store == null) {
+            return stored != null ? stored : toStoreValue(call(key, valueLoader));
+        }
+
+        String lockKey = sharedPrefix + k + ":lock";
+        boolean locked;
+        try {
+            locked = store.tryLock(lockKey, lockOwner, Duration.ofMillis(properties.getLockLeaseMs()));
+        } catch (RuntimeException e) {
+            sharedError("lock", e);
+            return toStoreValue(call(key, valueLoader));
+        }
+
+        if (!locked) {
+            stored = awaitOtherNode(k);
+            if (stored != null) {
+                return stored;
+            }
+            // The owner is slow or gone; loading twice beats failing the request
+        }
+        try {
+            stored = toStoreValue(call(key, valueLoader));
+            writeShared(k, stored);
+            return stored;
+        } finally {
+            if (locked) {
+                try {
+                    store.unlock(lockKey, lockOwner);
+                } catch (RuntimeException e) {
+                    sharedError("unlock", e);
+                }
+            }
+        }
+    }
+
+    private Object awaitOtherNode(String k) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getLockWaitMs());
+        while (System.nanoTime() - deadline < 0) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Object stored = readShared(k);
+            if (stored != null) {
+                return stored;
+            }
+        }
+        return null;
+    }
+
+    private Object readShared(String k) {
+        if (store == null) {
+            return null;
+        }
+        try {
+            byte[] bytes = store.get(sharedPrefix + k);
+            if (bytes == null) {
+                sharedMisses.increment();
+                return null;
+            }
+            sharedHits.increment();
+            return SERIALIZER.deserialize(bytes);
+        } catch (RuntimeException e) {
+            sharedError("read", e);
+            return null;
+        }
+    }
+
+    private void writeShared(String k, Object stored) {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.put(sharedPrefix + k, SERIALIZER.serialize(stored), jitteredTtl());
+        } catch (RuntimeException e) {
+            sharedError("write", e);
+        }
+    }
+
+    // Never longer than the configured TTL, so it stays an upper bound
+    private Duration jitteredTtl() {
+        long ttlMs = spec.getTtlMs();
+        long spread = (long) (ttlMs * properties.getTtlJitter());
+        return Duration.ofMillis(spread > 0 ? ttlMs - ThreadLocalRandom.current().nextLong(spread) : ttlMs);
+    }
+
+    private void sharedError(String operation, RuntimeException e) {
+        sharedErrors.increment();
+        log.debug("Shared cache {} failed for {}: {}", operation, name, e.getMessage());
+    }
+
+    private static Object call(Object key, Callable<?> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
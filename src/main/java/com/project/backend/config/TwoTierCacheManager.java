@@ -0,0 +1,58 @@
+package com.project.backend.config;
+
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates a {@link TwoTierCache} per name, sized from app.cache.caches.*
+ * (or app.cache.defaults), and applies invalidations published by other nodes.
+ */
+public class TwoTierCacheManager implements CacheManager {
+    private final TwoTierCacheProperties properties;
+    private final SharedCacheStore store;
+    private final CacheInvalidationBus bus;
+    private final String lockOwner = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(TwoTierCacheProperties properties, SharedCacheStore store, CacheInvalidationBus bus) {
+        this.properties = properties;
+        this.store = store;
+        this.bus = bus;
+        // Configured caches exist up front so their meters are registered at startup
+        properties.getCaches().keySet().forEach(this::getCache);
+        bus.subscribe(TwoTierCache.TOPIC, this::onInvalidation);
+    }
+
+    @Override
+    public TwoTierCache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(n, properties, store, bus, lockOwner));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public Collection<TwoTierCache> getCaches() {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    // "name\tkey" evicts one key, "name" clears the cache
+    private void onInvalidation(String payload) {
+        int tab = payload.indexOf('\t');
+        TwoTierCache cache = caches.get(tab < 0 ? payload : payload.substring(0, tab));
+        if (cache == null) {
+            return;
+        }
+        if (tab < 0) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(payload.substring(tab + 1));
+        }
+    }
+}
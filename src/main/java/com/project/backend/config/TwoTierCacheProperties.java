@@ -0,0 +1,58 @@
+package com.project.backend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoTierCacheProperties {
+    public enum SharedStore {
+        // Local tier only, for a single instance
+        NONE,
+        // Shared tier inside this JVM; same code path as Redis without a server
+        IN_MEMORY,
+        REDIS
+    }
+
+    private SharedStore sharedStore = SharedStore.NONE;
+
+    // Prepended to every shared key and to the invalidation channel
+    private String keyPrefix = "jutjubic:";
+
+    // Only one node loads a missing key; the others wait up to lockWaitMs for its result
+    private long lockLeaseMs = 5_000;
+    private long lockWaitMs = 2_000;
+
+    // Shared TTLs are spread by up to this fraction so entries written together don't expire together
+    private double ttlJitter = 0.1;
+
+    // Used for caches not listed under caches.*
+    private Spec defaults = new Spec();
+
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    @Data
+    public static class Spec {
+        // Shared tier time to live
+        private long ttlMs = 600_000;
+
+        private long localMaxSize = 1_000;
+
+        // Local tier time to live, defaults to ttlMs. Invalidation messages are the main bound on
+        // staleness; this only limits it when a message is lost
+        private Long localTtlMs;
+
+        public long effectiveLocalTtlMs() {
+            return localTtlMs != null ? localTtlMs : ttlMs;
+        }
+    }
+
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.backend.config;
+
+import com.project.backend.service.StartupWarmup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * "warmup" health component, part of the readiness group so the load balancer
+ * sends traffic only after the startup warm-up.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+    private final StartupWarmup startupWarmup;
+
+    @Override
+    public Health health() {
+        if (!startupWarmup.isReady()) {
+            return Health.outOfService().withDetail("warmup", "running").build();
+        }
+        Health.Builder health = Health.up().withDetail("warmup", startupWarmup.isFinished() ? "finished" : "timed out");
+        if (startupWarmup.getFailure() != null) {
+            health.withDetail("failure", startupWarmup.getFailure());
+        }
+        return health.build();
+    }
+}
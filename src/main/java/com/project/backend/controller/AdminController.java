@@ -0,0 +1,118 @@
+package com.project.backend.controller;
+
+import com.project.backend.dto.BulkImportRequest;
+import com.project.backend.dto.BulkImportStatus;
+import com.project.backend.model.User;
+import com.project.backend.service.BulkImportService;
+import com.project.backend.service.VideoExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Catalog maintenance endpoints, for accounts listed in app.admin.emails")
+public class AdminController {
+
+    private final BulkImportService bulkImportService;
+    private final VideoExportService videoExportService;
+
+    @PostMapping("/videos/import")
+    @Operation(
+            summary = "Start a bulk video import",
+            description = "Imports the manifest's videos from a directory under the server's import root. " +
+                    "Runs in the background; poll the returned job for progress and per-item failures.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import job queued",
+                    content = @Content(schema = @Schema(implementation = BulkImportStatus.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid manifest or unknown directory"),
+            @ApiResponse(responseCode = "403", description = "Not an admin")
+    })
+    public ResponseEntity<?> importVideos(
+            @Valid @RequestBody BulkImportRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(bulkImportService.submit(request, user));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/videos/import/{jobId}")
+    @Operation(
+            summary = "Get bulk import progress",
+            description = "Counts of processed, imported and failed items, and the first 1000 failures",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found",
+                    content = @Content(schema = @Schema(implementation = BulkImportStatus.class))),
+            @ApiResponse(responseCode = "404", description = "Unknown job, or finished more than a day ago")
+    })
+    public ResponseEntity<BulkImportStatus> getImportStatus(
+            @Parameter(description = "Job ID returned when the import was started", required = true)
+            @PathVariable String jobId
+    ) {
+        return bulkImportService.getStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    // Written on the request thread rather than as an async StreamingResponseBody, so a long
+    // export isn't cut off by the async request timeout
+    @GetMapping("/videos/export")
+    @Operation(
+            summary = "Export the video catalog",
+            description = "Streams every video as newline-delimited JSON (one object per line, with uploader, " +
+                    "counts and tags), optionally gzip-compressed. Memory use does not grow with the catalog.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Catalog stream",
+                    content = @Content(mediaType = "application/x-ndjson")),
+            @ApiResponse(responseCode = "403", description = "Not an admin")
+    })
+    public void exportVideos(
+            @Parameter(description = "Compress the stream (videos.ndjson.gz)") @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) throws IOException {
+        if (gzip) {
+            response.setContentType("application/gzip");
+        } else {
+            response.setContentType("application/x-ndjson");
+            response.setCharacterEncoding("UTF-8");
+        }
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"videos.ndjson" + (gzip ? ".gz" : "") + "\"");
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024)) {
+                videoExportService.export(compressed);
+            }
+        } else {
+            videoExportService.export(out);
+        }
+    }
+}
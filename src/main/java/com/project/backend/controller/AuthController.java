@@ -1,9 +1,14 @@
 package com.project.backend.controller;
 
 import com.project.backend.dto.AuthResponse;
+import com.project.backend.dto.AvailabilityResponse;
 import com.project.backend.dto.LoginRequest;
+import com.project.backend.dto.RefreshTokenRequest;
 import com.project.backend.dto.RegisterRequest;
+import com.project.backend.security.RateLimited;
 import com.project.backend.service.AuthService;
+import com.project.backend.service.PasswordHashingService;
+import com.project.backend.util.RequestUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +19,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -28,6 +35,7 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/register")
+    @RateLimited(value = "register", key = RateLimited.Key.IP)
     @Operation(
             summary = "Register a new user",
             description = "Register a new user account. An activation email will be sent to the provided email address."
@@ -44,6 +52,8 @@ public class AuthController {
             return ResponseEntity.ok(Map.of(
                     "message", "User registered successfully. Please check your email to activate your account."
             ));
+        } catch (PasswordHashingService.OverloadedException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
                     "error", e.getMessage()
@@ -51,7 +61,34 @@ public class AuthController {
         }
     }
 
+    @GetMapping("/availability")
+    @RateLimited(value = "availability", key = RateLimited.Key.IP)
+    @Operation(
+            summary = "Check username/email availability",
+            description = "Check whether a username and/or email are still free, e.g. while the signup form is being filled in"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Availability of the requested fields",
+                    content = @Content(schema = @Schema(implementation = AvailabilityResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Neither username nor email given")
+    })
+    public ResponseEntity<?> checkAvailability(
+            @Parameter(description = "Username to check") @RequestParam(required = false) String username,
+            @Parameter(description = "Email to check") @RequestParam(required = false) String email
+    ) {
+        if ((username == null || username.isBlank()) && (email == null || email.isBlank())) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "Provide a username or an email to check"
+            ));
+        }
+        return ResponseEntity.ok(authService.checkAvailability(
+                username == null || username.isBlank() ? null : username,
+                email == null || email.isBlank() ? null : email
+        ));
+    }
+
     @PostMapping("/login")
+    @RateLimited(value = "login", key = RateLimited.Key.IP)
     @Operation(
             summary = "User login",
             description = "Authenticate user and receive JWT access token. Rate limited to prevent brute force attacks."
@@ -59,16 +96,20 @@ public class AuthController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login successful",
                     content = @Content(schema = @Schema(implementation = AuthResponse.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid credentials or account not activated")
+            @ApiResponse(responseCode = "400", description = "Invalid credentials or account not activated"),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts"),
+            @ApiResponse(responseCode = "503", description = "Password hashing capacity exhausted, retry shortly")
     })
     public ResponseEntity<?> login(
             @Valid @RequestBody LoginRequest request,
             HttpServletRequest httpRequest
     ) {
         try {
-            String ipAddress = getClientIP(httpRequest);
+            String ipAddress = RequestUtils.getClientIP(httpRequest);
             AuthResponse response = authService.login(request, ipAddress);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingService.OverloadedException e) {
+            return serviceUnavailable(e);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
                     "error", e.getMessage()
@@ -76,6 +117,43 @@ public class AuthController {
         }
     }
 
+    @PostMapping("/refresh")
+    @Operation(
+            summary = "Refresh access token",
+            description = "Exchange a refresh token for a new access token and refresh token. Each refresh token can be used once; reusing one revokes the whole session."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "New token pair issued",
+                    content = @Content(schema = @Schema(implementation = AuthResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Invalid, expired, revoked or reused refresh token")
+    })
+    public ResponseEntity<?> refresh(
+            @Valid @RequestBody RefreshTokenRequest request
+    ) {
+        try {
+            return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of(
+                    "error", e.getMessage()
+            ));
+        }
+    }
+
+    @PostMapping("/logout")
+    @Operation(
+            summary = "Logout",
+            description = "Revoke the session of the given refresh token, including access tokens already issued for it"
+    )
+    @ApiResponse(responseCode = "200", description = "Session revoked")
+    public ResponseEntity<?> logout(
+            @Valid @RequestBody RefreshTokenRequest request
+    ) {
+        authService.logout(request.getRefreshToken());
+        return ResponseEntity.ok(Map.of(
+                "message", "Logged out successfully"
+        ));
+    }
+
     @GetMapping("/activate")
     @Operation(
             summary = "Activate user account",
@@ -100,11 +178,9 @@ public class AuthController {
         }
     }
 
-    private String getClientIP(HttpServletRequest request) {
-        String xfHeader = request.getHeader("X-Forwarded-For");
-        if (xfHeader == null) {
-            return request.getRemoteAddr();
-        }
-        return xfHeader.split(",")[0];
+    private ResponseEntity<?> serviceUnavailable(Exception e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", e.getMessage()));
     }
 }
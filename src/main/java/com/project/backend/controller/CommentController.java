@@ -0,0 +1,111 @@
+package com.project.backend.controller;
+
+import com.project.backend.dto.CommentPage;
+import com.project.backend.dto.CommentRequest;
+import com.project.backend.dto.CommentResponse;
+import com.project.backend.model.User;
+import com.project.backend.security.RateLimited;
+import com.project.backend.service.CommentService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/videos/{videoId}/comments")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
+@Tag(name = "Comment", description = "Video comments and replies")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    @PostMapping
+    @RateLimited("comment")
+    @Operation(
+            summary = "Comment on a video",
+            description = "Adds a comment, or a reply when parentId is set. Replies are one level deep: " +
+                    "replying to a reply adds to the same thread. Requires authentication.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Comment added",
+                    content = @Content(schema = @Schema(implementation = CommentResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request, unknown video or parent comment"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required")
+    })
+    public ResponseEntity<?> addComment(
+            @Parameter(description = "Video ID", required = true) @PathVariable Long videoId,
+            @Valid @RequestBody CommentRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        try {
+            return ResponseEntity.ok(commentService.addComment(videoId, request, user));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping
+    @Operation(
+            summary = "Get comment threads",
+            description = "Top-level comments, newest first (sort=recent) or most replied-to first (sort=top). " +
+                    "Pass the returned nextCursor to get the next page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of comments",
+                    content = @Content(schema = @Schema(implementation = CommentPage.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown sort or invalid cursor")
+    })
+    public ResponseEntity<?> getComments(
+            @Parameter(description = "Video ID", required = true) @PathVariable Long videoId,
+            @Parameter(description = "recent or top") @RequestParam(defaultValue = "recent") String sort,
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        try {
+            return ResponseEntity.ok(commentService.getComments(
+                    videoId, CommentService.Order.parse(sort), cursor, clampSize(size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{commentId}/replies")
+    @Operation(
+            summary = "Get replies to a comment",
+            description = "Replies in the order they were posted. Pass the returned nextCursor to get the next page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of replies",
+                    content = @Content(schema = @Schema(implementation = CommentPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    public ResponseEntity<?> getReplies(
+            @Parameter(description = "Video ID", required = true) @PathVariable Long videoId,
+            @Parameter(description = "Comment ID", required = true) @PathVariable Long commentId,
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)") @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int size
+    ) {
+        try {
+            return ResponseEntity.ok(commentService.getReplies(videoId, commentId, cursor, clampSize(size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, CommentService.MAX_PAGE_SIZE));
+    }
+}
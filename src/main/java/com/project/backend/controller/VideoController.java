@@ -1,11 +1,23 @@
 package com.project.backend.controller;
 
+import com.project.backend.dto.LikeResponse;
+import com.project.backend.dto.LiveCountsEvent;
+import com.project.backend.dto.VideoIdsRequest;
+import com.project.backend.dto.VideoStatsResponse;
 import com.project.backend.dto.VideoResponse;
 import com.project.backend.dto.VideoUploadRequest;
 import com.project.backend.model.User;
+import com.project.backend.security.RateLimited;
+import com.project.backend.service.EngagementStatsService;
+import com.project.backend.service.FileStorageService;
 import com.project.backend.service.LikeService;
+import com.project.backend.service.LiveCountsService;
+import com.project.backend.service.UniqueViewerService;
+import com.project.backend.service.VideoMetrics;
 import com.project.backend.service.VideoService;
+import com.project.backend.util.RequestUtils;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,18 +26,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -37,10 +56,19 @@ import java.util.Map;
 public class VideoController {
 
     private final VideoService videoService;
+    private final FileStorageService fileStorageService;
     private final LikeService likeService;
+    private final UniqueViewerService uniqueViewerService;
+    private final EngagementStatsService engagementStatsService;
+    private final LiveCountsService liveCountsService;
+    private final VideoMetrics videoMetrics;
     private final ObjectMapper objectMapper;
 
+    @Value("${file.upload-dir:uploads}")
+    private String uploadDir;
+
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @RateLimited("upload")
     @Operation(
             summary = "Upload a new video",
             description = "Upload a video with thumbnail, title, description, tags, and optional location. Requires authentication. Max video size: 200MB.",
@@ -61,11 +89,14 @@ public class VideoController {
             @RequestPart("data") String videoDataJson,
             @AuthenticationPrincipal User user
     ) {
+        Timer.Sample sample = videoMetrics.start();
         try {
             VideoUploadRequest request = objectMapper.readValue(videoDataJson, VideoUploadRequest.class);
             VideoResponse response = videoService.uploadVideo(request, videoFile, thumbnailFile, user);
+            videoMetrics.recordUpload(sample, videoFile.getSize(), true);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
+            videoMetrics.recordUpload(sample, videoFile.getSize(), false);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
@@ -87,6 +118,24 @@ public class VideoController {
         return ResponseEntity.ok(videos);
     }
 
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Get videos by IDs",
+            description = "Retrieve up to 100 videos in one request. Unknown IDs are skipped; results keep the request order."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Videos retrieved",
+                    content = @Content(schema = @Schema(implementation = VideoResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or too large ID list")
+    })
+    public ResponseEntity<List<VideoResponse>> getVideosByIds(
+            @Valid @RequestBody VideoIdsRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        Long currentUserId = user != null ? user.getId() : null;
+        return ResponseEntity.ok(videoService.getVideosByIds(request.getIds(), currentUserId));
+    }
+
     @GetMapping("/{id}")
     @Operation(
             summary = "Get video by ID",
@@ -124,18 +173,14 @@ public class VideoController {
             @Parameter(description = "Video ID", required = true) @PathVariable Long id
     ) {
         try {
+            // Path and bytes both come from the thumbnails cache, which the startup warm-up fills
             String thumbnailPath = videoService.getThumbnailPath(id);
-            Path filePath = Paths.get("uploads").resolve(thumbnailPath);
-            Resource resource = new UrlResource(filePath.toUri());
+            Resource resource = new ByteArrayResource(fileStorageService.readThumbnail(thumbnailPath));
 
-            if (resource.exists() && resource.isReadable()) {
-                return ResponseEntity.ok()
-                        .contentType(MediaType.IMAGE_JPEG)
-                        .header(HttpHeaders.CACHE_CONTROL, "max-age=3600")
-                        .body(resource);
-            } else {
-                return ResponseEntity.notFound().build();
-            }
+            return ResponseEntity.ok()
+                    .contentType(MediaType.IMAGE_JPEG)
+                    .header(HttpHeaders.CACHE_CONTROL, "max-age=3600")
+                    .body(resource);
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
@@ -152,12 +197,18 @@ public class VideoController {
             @ApiResponse(responseCode = "404", description = "Video file not found")
     })
     public ResponseEntity<Resource> streamVideo(
-            @Parameter(description = "Video ID", required = true) @PathVariable Long id
+            @Parameter(description = "Video ID", required = true) @PathVariable Long id,
+            @AuthenticationPrincipal User user,
+            HttpServletRequest request
     ) {
         try {
             String videoPath = videoService.getVideoPath(id);
-            Path filePath = Paths.get("uploads").resolve(videoPath);
-            Resource resource = new UrlResource(filePath.toUri());
+            uniqueViewerService.recordView(id, RequestUtils.getViewerKey(request, user != null ? user.getId() : null));
+            if (RequestUtils.isPlaybackStart(request)) {
+                engagementStatsService.recordView(id);
+            }
+            Path filePath = Paths.get(uploadDir).resolve(videoPath);
+            Resource resource = videoMetrics.streamResource(filePath);
 
             if (resource.exists() && resource.isReadable()) {
                 return ResponseEntity.ok()
@@ -172,16 +223,78 @@ public class VideoController {
         }
     }
 
+    @GetMapping("/{id}/stats")
+    @Operation(
+            summary = "Get video engagement over time",
+            description = "Views, likes and unlikes per time bucket. Step is minute (last few hours only), hour or day; " +
+                    "from/to are ISO date-times in UTC and default to the last 24 buckets up to now."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Time series retrieved",
+                    content = @Content(schema = @Schema(implementation = VideoStatsResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid step or range"),
+            @ApiResponse(responseCode = "404", description = "Video not found")
+    })
+    public ResponseEntity<?> getStats(
+            @Parameter(description = "Video ID", required = true) @PathVariable Long id,
+            @Parameter(description = "Range start (UTC)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Range end (UTC)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Bucket size: minute, hour or day") @RequestParam(defaultValue = "hour") String step
+    ) {
+        try {
+            return ResponseEntity.ok(engagementStatsService.getStats(id, from, to, step));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping(value = "/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Live like/view counts",
+            description = "Server-Sent Events stream that sends the current counts on connect and then a 'counts' event " +
+                    "whenever they change (at most one per second), plus periodic heartbeat comments."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = LiveCountsEvent.class))),
+            @ApiResponse(responseCode = "404", description = "Video not found"),
+            @ApiResponse(responseCode = "503", description = "Too many open streams, retry later")
+    })
+    public ResponseEntity<SseEmitter> liveCounts(
+            @Parameter(description = "Video ID", required = true) @PathVariable Long id
+    ) {
+        try {
+            SseEmitter emitter = liveCountsService.subscribe(id);
+            if (emitter == null) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "30")
+                        .build();
+            }
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no")
+                    .body(emitter);
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     // ====== LIKE ENDPOINTS ======
 
     @PostMapping("/{id}/like")
+    @RateLimited("like")
     @Operation(
             summary = "Toggle like on video",
             description = "Like or unlike a video. Returns the new like status and total like count. Requires authentication.",
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Like toggled successfully"),
+            @ApiResponse(responseCode = "200", description = "Like toggled successfully",
+                    content = @Content(schema = @Schema(implementation = LikeResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid request"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - JWT token required")
     })
@@ -189,13 +302,13 @@ public class VideoController {
             @Parameter(description = "Video ID", required = true) @PathVariable Long id,
             @AuthenticationPrincipal User user
     ) {
+        Timer.Sample sample = videoMetrics.start();
         try {
-            boolean isLiked = likeService.toggleLike(id, user);
-            return ResponseEntity.ok(Map.of(
-                    "liked", isLiked,
-                    "likeCount", likeService.getLikeCount(id)
-            ));
+            LikeResponse response = likeService.toggleLike(id, user);
+            videoMetrics.recordToggleLike(sample, true);
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
+            videoMetrics.recordToggleLike(sample, false);
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
@@ -218,4 +331,21 @@ public class VideoController {
         boolean isLiked = likeService.isLikedByUser(id, user.getId());
         return ResponseEntity.ok(Map.of("liked", isLiked));
     }
+
+    @PostMapping("/liked-status")
+    @Operation(
+            summary = "Check like status for multiple videos",
+            description = "Returns a map of video ID to liked flag for up to 100 videos. All flags are false if not authenticated."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Like statuses retrieved"),
+            @ApiResponse(responseCode = "400", description = "Empty or too large ID list")
+    })
+    public ResponseEntity<Map<Long, Boolean>> getLikedStatus(
+            @Valid @RequestBody VideoIdsRequest request,
+            @AuthenticationPrincipal User user
+    ) {
+        Long currentUserId = user != null ? user.getId() : null;
+        return ResponseEntity.ok(likeService.getLikedStatus(request.getIds(), currentUserId));
+    }
 }
\ No newline at end of file
@@ -11,6 +11,12 @@ public class AuthResponse {
     @Schema(description = "JWT access token", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
     private String token;
 
+    @Schema(description = "Single-use refresh token, exchanged at /api/auth/refresh for a new token pair")
+    private String refreshToken;
+
+    @Schema(description = "Access token lifetime in seconds", example = "900")
+    private long expiresIn;
+
     @Schema(description = "Token type", example = "Bearer", defaultValue = "Bearer")
     private String type = "Bearer";
 
@@ -23,8 +29,10 @@ public class AuthResponse {
     @Schema(description = "User email", example = "user@example.com")
     private String email;
 
-    public AuthResponse(String token, Long id, String username, String email) {
+    public AuthResponse(String token, String refreshToken, long expiresIn, Long id, String username, String email) {
         this.token = token;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
         this.id = id;
         this.username = username;
         this.email = email;
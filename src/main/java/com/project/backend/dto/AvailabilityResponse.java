@@ -0,0 +1,20 @@
+package com.project.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Availability of a username and/or email; only the requested fields are present")
+public class AvailabilityResponse {
+    @Schema(description = "Whether the username is free", example = "true")
+    private Boolean usernameAvailable;
+
+    @Schema(description = "Whether the email is free", example = "false")
+    private Boolean emailAvailable;
+}
@@ -0,0 +1,37 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "One video of a bulk import manifest")
+public class BulkImportItem {
+    @NotBlank(message = "Video file is required")
+    @Schema(description = "MP4 file, relative to the import directory", example = "videos/0001.mp4", required = true)
+    private String videoFile;
+
+    @NotBlank(message = "Thumbnail file is required")
+    @Schema(description = "Thumbnail image, relative to the import directory", example = "thumbnails/0001.jpg", required = true)
+    private String thumbnailFile;
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title cannot exceed 255 characters")
+    @Schema(description = "Video title (required, max 255 characters)", example = "Opening ceremony", required = true)
+    private String title;
+
+    @Schema(description = "Video description (optional)")
+    private String description;
+
+    @Schema(description = "List of tags for categorization", example = "[\"archive\", \"sports\"]")
+    private List<String> tags;
+
+    @Schema(description = "Geographic location (optional)", example = "Belgrade, Serbia")
+    private String location;
+
+    @Schema(description = "Owner's username (optional, defaults to the user running the import)", example = "archive")
+    private String username;
+}
@@ -0,0 +1,26 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Manifest of videos to import from a directory on the server")
+public class BulkImportRequest {
+    public static final int MAX_ITEMS = 100_000;
+
+    @NotBlank(message = "Directory is required")
+    @Schema(description = "Directory holding the files, relative to the configured import root", example = "catalog-2019", required = true)
+    private String directory;
+
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " items per import")
+    @Schema(description = "Videos to import (max 100000)", required = true)
+    private List<@NotNull @Valid BulkImportItem> items;
+}
@@ -0,0 +1,56 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Progress of a bulk import job")
+public class BulkImportStatus {
+    @Schema(description = "Job ID", example = "3f6c2a1e-6d5b-4c1f-9a8e-2b7d4e0c9f11")
+    private String id;
+
+    @Schema(description = "QUEUED, RUNNING, COMPLETED or FAILED (the job itself failed, see error)", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "Items in the manifest", example = "25000")
+    private int total;
+
+    @Schema(description = "Items processed so far, imported or failed", example = "12000")
+    private int processed;
+
+    @Schema(description = "Videos created", example = "11990")
+    private int imported;
+
+    @Schema(description = "Items that failed", example = "10")
+    private int failed;
+
+    @Schema(description = "Per-item failures (the first 1000)")
+    private List<Failure> failures;
+
+    @Schema(description = "Why the whole job failed, if it did")
+    private String error;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Failure {
+        @Schema(description = "Position in the manifest, from 0", example = "42")
+        private int index;
+
+        @Schema(description = "The item's video file", example = "videos/0043.mp4")
+        private String videoFile;
+
+        @Schema(description = "What went wrong", example = "File not found: videos/0043.mp4")
+        private String error;
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "One page of comments")
+public class CommentPage implements Serializable {
+    @Schema(description = "Comments on this page")
+    private List<CommentResponse> items;
+
+    @Schema(description = "Pass as cursor to get the next page; null on the last page", example = "1042")
+    private String nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+@Schema(description = "New comment or reply")
+public class CommentRequest {
+    public static final int MAX_LENGTH = 2000;
+
+    @NotBlank(message = "Comment must not be empty")
+    @Size(max = MAX_LENGTH, message = "Comment must be at most " + MAX_LENGTH + " characters")
+    @Schema(description = "Comment text (max 2000 characters)", example = "Great video!", required = true)
+    private String content;
+
+    @Schema(description = "ID of the comment being replied to; omit for a new thread", example = "17")
+    private Long parentId;
+}
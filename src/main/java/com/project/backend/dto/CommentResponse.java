@@ -0,0 +1,40 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+// Serializable: first pages are kept in the shared cache tier
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Comment or reply")
+public class CommentResponse implements Serializable {
+    @Schema(description = "Comment ID", example = "17")
+    private Long id;
+
+    @Schema(description = "Video ID", example = "1")
+    private Long videoId;
+
+    @Schema(description = "ID of the thread this reply belongs to (null for a thread)", example = "null")
+    private Long parentId;
+
+    @Schema(description = "ID of the author", example = "42")
+    private Long userId;
+
+    @Schema(description = "Username of the author", example = "john_doe")
+    private String username;
+
+    @Schema(description = "Comment text", example = "Great video!")
+    private String content;
+
+    @Schema(description = "Number of replies (always 0 for a reply)", example = "3")
+    private Integer replyCount;
+
+    @Schema(description = "When the comment was posted", example = "2024-01-15T10:30:00")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of toggling a like on a video")
+public class LikeResponse {
+    @Schema(description = "Whether the video is liked by the current user after the toggle", example = "true")
+    private boolean liked;
+
+    @Schema(description = "Total number of likes after the toggle", example = "57")
+    private Integer likeCount;
+}
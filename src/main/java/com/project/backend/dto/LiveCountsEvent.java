@@ -0,0 +1,21 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Live counter update pushed over the video's SSE stream")
+public class LiveCountsEvent {
+    @Schema(description = "Video ID", example = "1")
+    private Long videoId;
+
+    @Schema(description = "Current number of likes", example = "56")
+    private Integer likeCount;
+
+    @Schema(description = "Current number of views", example = "1234")
+    private Integer viewCount;
+}
@@ -0,0 +1,13 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+@Schema(description = "Request carrying a refresh token")
+public class RefreshTokenRequest {
+    @NotBlank(message = "Refresh token is required")
+    @Schema(description = "Refresh token received at login or on the last refresh", required = true)
+    private String refreshToken;
+}
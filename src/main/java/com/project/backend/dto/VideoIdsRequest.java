@@ -0,0 +1,20 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "List of video IDs for bulk lookups")
+public class VideoIdsRequest {
+    public static final int MAX_IDS = 100;
+
+    @NotEmpty(message = "At least one video ID is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " video IDs per request")
+    @Schema(description = "Video IDs (max 100)", example = "[1, 2, 3]", required = true)
+    private List<@NotNull Long> ids;
+}
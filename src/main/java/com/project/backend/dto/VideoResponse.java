@@ -49,6 +49,15 @@ public class VideoResponse {
     @Schema(description = "Number of likes", example = "56")
     private Integer likeCount;
 
+    @Schema(description = "Number of comments, replies included", example = "12")
+    private Integer commentCount;
+
+    @Schema(description = "Estimated number of distinct viewers (all time)", example = "812")
+    private Long uniqueViewers;
+
+    @Schema(description = "Estimated number of distinct viewers today (only on single video lookups)", example = "37")
+    private Long uniqueViewersToday;
+
     @Schema(description = "Whether current user has liked this video (null if not authenticated)", example = "true")
     private Boolean isLikedByCurrentUser;
 }
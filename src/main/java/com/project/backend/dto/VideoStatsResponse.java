@@ -0,0 +1,42 @@
+package com.project.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Engagement time series of a video")
+public class VideoStatsResponse {
+    @Schema(description = "Video ID", example = "1")
+    private Long videoId;
+
+    @Schema(description = "Bucket size: minute, hour or day", example = "hour")
+    private String step;
+
+    @Schema(description = "One point per bucket in [from, to], including empty buckets")
+    private List<StatPoint> points;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "Engagement counts for one time bucket")
+    public static class StatPoint {
+        @Schema(description = "Bucket start (UTC)", example = "2025-01-06T15:00:00")
+        private LocalDateTime time;
+
+        @Schema(description = "Playbacks started in the bucket", example = "120")
+        private long views;
+
+        @Schema(description = "Likes added in the bucket", example = "8")
+        private long likes;
+
+        @Schema(description = "Likes removed in the bucket", example = "1")
+        private long unlikes;
+    }
+}
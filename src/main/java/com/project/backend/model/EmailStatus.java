@@ -0,0 +1,7 @@
+package com.project.backend.model;
+
+public enum EmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
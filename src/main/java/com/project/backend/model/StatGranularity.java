@@ -0,0 +1,21 @@
+package com.project.backend.model;
+
+public enum StatGranularity {
+    MINUTE(1),
+    HOUR(60),
+    DAY(1440);
+
+    private final long minutes;
+
+    StatGranularity(long minutes) {
+        this.minutes = minutes;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public long bucketStart(long epochMinute) {
+        return epochMinute - Math.floorMod(epochMinute, minutes);
+    }
+}
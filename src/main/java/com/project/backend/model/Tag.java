@@ -3,7 +3,12 @@ package com.project.backend.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -11,8 +16,13 @@ import java.util.Set;
 @Entity
 @Table(name = "tags")
 @Data
+@EqualsAndHashCode(exclude = "videos")
+@ToString(exclude = "videos")
 @NoArgsConstructor
 @AllArgsConstructor
+// Tags are only ever inserted, never renamed
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "tags")
 public class Tag {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
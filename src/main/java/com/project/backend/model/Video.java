@@ -5,7 +5,12 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -17,8 +22,11 @@ import java.util.Set;
 @Entity
 @Table(name = "videos")
 @Data
+@EqualsAndHashCode(exclude = {"user", "tags", "likes"})
+@ToString(exclude = {"user", "tags", "likes"})
 @NoArgsConstructor
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "videos")
 public class Video {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -53,6 +61,7 @@ public class Video {
     private User user;
 
     @ManyToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "videos.tags")
     @JoinTable(
             name = "video_tags",
             joinColumns = @JoinColumn(name = "video_id"),
@@ -68,4 +77,14 @@ public class Video {
 
     @Column(nullable = false)
     private Integer likeCount = 0;
+
+    // Maintained with atomic increments (VideoRepository.adjustCommentCount). The default
+    // matches V8__comments.sql for schemas Hibernate generates (bench profile)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Integer commentCount = 0;
+
+    // HyperLogLog estimate, refreshed whenever viewer sketches are flushed
+    @Column(name = "unique_viewers")
+    private Long uniqueViewers = 0L;
 }
@@ -0,0 +1,46 @@
+package com.project.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "video_stat_buckets", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"video_id", "granularity", "bucket_start"})
+})
+@Data
+@EqualsAndHashCode(exclude = "video")
+@ToString(exclude = "video")
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoStatBucket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "video_id", nullable = false)
+    private Video video;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StatGranularity granularity;
+
+    // Start of the bucket in UTC
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(nullable = false)
+    private long likes;
+
+    @Column(nullable = false)
+    private long unlikes;
+}
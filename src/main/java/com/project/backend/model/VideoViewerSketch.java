@@ -0,0 +1,40 @@
+package com.project.backend.model;
+
+import com.project.backend.util.HyperLogLog;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "video_viewer_sketches", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"video_id", "day"})
+})
+@Data
+@EqualsAndHashCode(exclude = "video")
+@ToString(exclude = {"video", "registers"})
+@NoArgsConstructor
+@AllArgsConstructor
+public class VideoViewerSketch {
+    // Day value under which the all-time sketch of a video is stored
+    public static final LocalDate ALL_TIME = LocalDate.EPOCH;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "video_id", nullable = false)
+    private Video video;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    // Raw HyperLogLog registers
+    @Column(nullable = false, length = HyperLogLog.REGISTER_COUNT)
+    private byte[] registers;
+}
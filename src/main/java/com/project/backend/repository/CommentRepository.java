@@ -0,0 +1,56 @@
+package com.project.backend.repository;
+
+import com.project.backend.model.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// Keyset pages: each query is a range scan on one of the indexes from V8__comments.sql,
+// so page N costs the same as page 1 (no OFFSET)
+@Repository
+public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+           "WHERE c.video.id = :videoId AND c.parent IS NULL " +
+           "ORDER BY c.id DESC")
+    List<Comment> findNewestThreads(@Param("videoId") Long videoId, Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+           "WHERE c.video.id = :videoId AND c.parent IS NULL AND c.id < :beforeId " +
+           "ORDER BY c.id DESC")
+    List<Comment> findNewestThreadsBefore(@Param("videoId") Long videoId,
+                                          @Param("beforeId") Long beforeId,
+                                          Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+           "WHERE c.video.id = :videoId AND c.parent IS NULL " +
+           "ORDER BY c.replyCount DESC, c.id DESC")
+    List<Comment> findTopThreads(@Param("videoId") Long videoId, Pageable pageable);
+
+    // (replyCount, id) < cursor; the separate <= bound lets Postgres start the index scan at the cursor
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+           "WHERE c.video.id = :videoId AND c.parent IS NULL " +
+           "AND c.replyCount <= :replyCount AND (c.replyCount < :replyCount OR c.id < :beforeId) " +
+           "ORDER BY c.replyCount DESC, c.id DESC")
+    List<Comment> findTopThreadsAfter(@Param("videoId") Long videoId,
+                                      @Param("replyCount") Integer replyCount,
+                                      @Param("beforeId") Long beforeId,
+                                      Pageable pageable);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user " +
+           "WHERE c.parent.id = :parentId AND c.video.id = :videoId AND c.id > :afterId " +
+           "ORDER BY c.id")
+    List<Comment> findReplies(@Param("videoId") Long videoId,
+                              @Param("parentId") Long parentId,
+                              @Param("afterId") Long afterId,
+                              Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + 1 WHERE c.id = :id")
+    int incrementReplyCount(@Param("id") Long id);
+}
@@ -1,16 +1,35 @@
 package com.project.backend.repository;
 
 import com.project.backend.model.Like;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
     Optional<Like> findByUserIdAndVideoId(Long userId, Long videoId);
     boolean existsByUserIdAndVideoId(Long userId, Long videoId);
-    void deleteByUserIdAndVideoId(Long userId, Long videoId);
+
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.video.id = :videoId")
+    int deleteByUserIdAndVideoId(@Param("userId") Long userId, @Param("videoId") Long videoId);
+
     long countByVideoId(Long videoId);
 
+    @Query("SELECT l.video.id FROM Like l WHERE l.user.id = :userId")
+    List<Long> findVideoIdsByUserId(@Param("userId") Long userId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"))
+    @Query("SELECT l.user.id, l.video.id FROM Like l")
+    Stream<Object[]> streamAllUserVideoPairs();
+
 }
@@ -0,0 +1,9 @@
+package com.project.backend.repository;
+
+import java.util.Collection;
+
+public interface TagRepositoryCustom {
+
+    // One JDBC batch; names another transaction inserted first are skipped, not failed
+    void insertMissing(Collection<String> names);
+}
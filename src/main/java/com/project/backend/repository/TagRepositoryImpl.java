@@ -0,0 +1,31 @@
+package com.project.backend.repository;
+
+import com.project.backend.config.EntityCacheInvalidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TagRepositoryImpl implements TagRepositoryCustom {
+    private static final String INSERT_SQL = "INSERT INTO tags (name) VALUES (?) ON CONFLICT (name) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    @Override
+    public void insertMissing(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (String name : names) {
+            rows.add(new Object[]{name});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        // Hibernate doesn't see JDBC inserts, so cached findByName misses would hide the new tags
+        entityCacheInvalidator.evictQueryResults();
+    }
+}
@@ -1,13 +1,41 @@
 package com.project.backend.repository;
 
+import com.project.backend.dto.LiveCountsEvent;
 import com.project.backend.model.Video;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface VideoRepository extends JpaRepository<Video, Long> {
+public interface VideoRepository extends JpaRepository<Video, Long>, VideoRepositoryCustom {
     List<Video> findAllByOrderByCreatedAtDesc();
     List<Video> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    @Query("SELECT DISTINCT v FROM Video v JOIN FETCH v.user LEFT JOIN FETCH v.tags WHERE v.id IN :ids")
+    List<Video> findAllWithUserAndTagsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT v.likeCount FROM Video v WHERE v.id = :id")
+    Optional<Integer> findLikeCountById(@Param("id") Long id);
+
+    @Query("SELECT new com.project.backend.dto.LiveCountsEvent(v.id, v.likeCount, v.viewCount) " +
+            "FROM Video v WHERE v.id IN :ids")
+    List<LiveCountsEvent> findLiveCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(v.id), 0) FROM Video v")
+    long findMaxId();
+
+    @Query("SELECT v.id FROM Video v ORDER BY v.viewCount DESC")
+    List<Long> findMostViewedIds(Pageable pageable);
+
+    @Query("SELECT v.videoPath FROM Video v WHERE v.videoPath IN :paths")
+    List<String> findVideoPathsIn(@Param("paths") Collection<String> paths);
+
+    @Query("SELECT v.thumbnailPath FROM Video v WHERE v.thumbnailPath IN :paths")
+    List<String> findThumbnailPathsIn(@Param("paths") Collection<String> paths);
 }
@@ -0,0 +1,28 @@
+package com.project.backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface VideoRepositoryCustom {
+
+    // Counter updates go through JDBC and evict just the affected videos from the second-level cache.
+    // A bulk HQL update would invalidate the whole videos region on every like and view flush.
+
+    int adjustLikeCount(Long id, int delta);
+
+    int adjustCommentCount(Long id, int delta);
+
+    int addViews(Long id, long views);
+
+    int updateUniqueViewers(Long id, long uniqueViewers);
+
+    // Fixes like_count for an id range wherever it drifted from the number of rows in likes
+    int reconcileLikeCounts(long fromId, long toId);
+
+    // Bulk import: rows and tag links go in as JDBC batches in one transaction, ids in input order
+    List<Long> insertAll(List<NewVideo> videos);
+
+    record NewVideo(Long userId, String title, String description, String videoPath, String thumbnailPath,
+                    long fileSize, String location, Collection<Long> tagIds) {
+    }
+}
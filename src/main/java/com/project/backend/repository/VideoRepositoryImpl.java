@@ -0,0 +1,104 @@
+package com.project.backend.repository;
+
+import com.project.backend.config.EntityCacheInvalidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class VideoRepositoryImpl implements VideoRepositoryCustom {
+    private static final String ADJUST_LIKES_SQL = "UPDATE videos SET like_count = like_count + ? WHERE id = ?";
+    private static final String ADJUST_COMMENTS_SQL = "UPDATE videos SET comment_count = comment_count + ? WHERE id = ?";
+    private static final String ADD_VIEWS_SQL = "UPDATE videos SET view_count = view_count + ? WHERE id = ?";
+    private static final String UNIQUE_VIEWERS_SQL = "UPDATE videos SET unique_viewers = ? WHERE id = ?";
+    // A toggle holds the row lock (or, mid-insert, the foreign key's KEY SHARE lock) from the likes write until
+    // commit. Taking the range lock first means the count below starts after every in-flight toggle has committed;
+    // counting in the UPDATE alone would use a snapshot from before the toggle and write back the old count.
+    private static final String LOCK_RANGE_SQL = "SELECT id FROM videos WHERE id BETWEEN ? AND ? ORDER BY id FOR UPDATE";
+    private static final String RECONCILE_SQL =
+            "UPDATE videos v SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.video_id = v.id) " +
+            "WHERE v.id BETWEEN ? AND ? " +
+            "AND v.like_count <> (SELECT COUNT(*) FROM likes l WHERE l.video_id = v.id)";
+
+    // Ids are taken from the identity sequence up front, so the batch needs no generated-keys round trips
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval(pg_get_serial_sequence('videos', 'id')) FROM generate_series(1, ?)";
+    private static final String INSERT_SQL =
+            "INSERT INTO videos (id, user_id, title, description, video_path, thumbnail_path, file_size, location, " +
+            "created_at, view_count, like_count, unique_viewers) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0)";
+    private static final String INSERT_TAG_SQL = "INSERT INTO video_tags (video_id, tag_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+
+    @Override
+    public int adjustLikeCount(Long id, int delta) {
+        return evictIfUpdated(id, jdbcTemplate.update(ADJUST_LIKES_SQL, delta, id));
+    }
+
+    @Override
+    public int adjustCommentCount(Long id, int delta) {
+        return evictIfUpdated(id, jdbcTemplate.update(ADJUST_COMMENTS_SQL, delta, id));
+    }
+
+    @Override
+    public int addViews(Long id, long views) {
+        return evictIfUpdated(id, jdbcTemplate.update(ADD_VIEWS_SQL, views, id));
+    }
+
+    @Override
+    public int updateUniqueViewers(Long id, long uniqueViewers) {
+        return evictIfUpdated(id, jdbcTemplate.update(UNIQUE_VIEWERS_SQL, uniqueViewers, id));
+    }
+
+    @Override
+    @Transactional
+    public int reconcileLikeCounts(long fromId, long toId) {
+        jdbcTemplate.queryForList(LOCK_RANGE_SQL, Long.class, fromId, toId);
+        int fixed = jdbcTemplate.update(RECONCILE_SQL, fromId, toId);
+        if (fixed > 0) {
+            // Rare (only after drift), so dropping the whole region is simpler than collecting the ids
+            entityCacheInvalidator.evictAllVideos();
+        }
+        return fixed;
+    }
+
+    @Override
+    @Transactional
+    public List<Long> insertAll(List<NewVideo> videos) {
+        if (videos.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, videos.size());
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> rows = new ArrayList<>(videos.size());
+        List<Object[]> tagLinks = new ArrayList<>();
+        for (int i = 0; i < videos.size(); i++) {
+            NewVideo video = videos.get(i);
+            Long id = ids.get(i);
+            rows.add(new Object[]{id, video.userId(), video.title(), video.description(), video.videoPath(),
+                    video.thumbnailPath(), video.fileSize(), video.location(), createdAt});
+            for (Long tagId : video.tagIds()) {
+                tagLinks.add(new Object[]{id, tagId});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        if (!tagLinks.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TAG_SQL, tagLinks);
+        }
+        return ids;
+    }
+
+    private int evictIfUpdated(Long id, int updated) {
+        if (updated > 0) {
+            entityCacheInvalidator.evictVideo(id);
+        }
+        return updated;
+    }
+}
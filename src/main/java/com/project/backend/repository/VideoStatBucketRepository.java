@@ -0,0 +1,15 @@
+package com.project.backend.repository;
+
+import com.project.backend.model.StatGranularity;
+import com.project.backend.model.VideoStatBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface VideoStatBucketRepository extends JpaRepository<VideoStatBucket, Long>, VideoStatBucketRepositoryCustom {
+    List<VideoStatBucket> findByVideoIdAndGranularityAndBucketStartBetweenOrderByBucketStart(
+            Long videoId, StatGranularity granularity, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,16 @@
+package com.project.backend.repository;
+
+import com.project.backend.model.StatGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface VideoStatBucketRepositoryCustom {
+
+    // Adds the deltas to existing buckets and creates the missing ones, using JDBC batches
+    void addToBuckets(List<BucketDelta> deltas);
+
+    record BucketDelta(Long videoId, StatGranularity granularity, LocalDateTime bucketStart,
+                       long views, long likes, long unlikes) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.backend.repository;
+
+import com.project.backend.model.VideoViewerSketch;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface VideoViewerSketchRepository extends JpaRepository<VideoViewerSketch, Long>, VideoViewerSketchRepositoryCustom {
+    Optional<VideoViewerSketch> findByVideoIdAndDay(Long videoId, LocalDate day);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM VideoViewerSketch s WHERE s.video.id = :videoId AND s.day = :day")
+    Optional<VideoViewerSketch> findForUpdate(@Param("videoId") Long videoId, @Param("day") LocalDate day);
+}
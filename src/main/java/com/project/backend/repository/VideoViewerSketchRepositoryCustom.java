@@ -0,0 +1,12 @@
+package com.project.backend.repository;
+
+import java.time.LocalDate;
+
+public interface VideoViewerSketchRepositoryCustom {
+
+    // Returns 0 when another transaction already created the (video, day) row
+    int insertIfAbsent(Long videoId, LocalDate day, byte[] registers);
+
+    // Deletes up to limit per-day rows older than cutoff; the all-time rows are kept
+    int deleteDaysBefore(LocalDate cutoff, int limit);
+}
@@ -0,0 +1,38 @@
+package com.project.backend.repository;
+
+import com.project.backend.model.VideoViewerSketch;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+public class VideoViewerSketchRepositoryImpl implements VideoViewerSketchRepositoryCustom {
+    private static final String INSERT_SQL = "INSERT INTO video_viewer_sketches (video_id, day, registers) VALUES (?, ?, ?) " +
+            "ON CONFLICT (video_id, day) DO NOTHING";
+    // H2's PostgreSQL mode only parses the untargeted form; its generated schema has no other unique key to hit
+    private static final String H2_INSERT_SQL = "INSERT INTO video_viewer_sketches (video_id, day, registers) VALUES (?, ?, ?) " +
+            "ON CONFLICT DO NOTHING";
+    private static final String DELETE_DAYS_SQL = "DELETE FROM video_viewer_sketches WHERE id IN " +
+            "(SELECT id FROM video_viewer_sketches WHERE day < ? AND day <> ? LIMIT ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertSql;
+
+    public VideoViewerSketchRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                           @Value("${analytics.unique-viewers.h2-upsert:false}") boolean h2Upsert) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = h2Upsert ? H2_INSERT_SQL : INSERT_SQL;
+    }
+
+    // Plain JDBC, so Hibernate doesn't invalidate every second-level cache region after the insert
+    @Override
+    public int insertIfAbsent(Long videoId, LocalDate day, byte[] registers) {
+        return jdbcTemplate.update(insertSql, videoId, Date.valueOf(day), registers);
+    }
+
+    @Override
+    public int deleteDaysBefore(LocalDate cutoff, int limit) {
+        return jdbcTemplate.update(DELETE_DAYS_SQL, Date.valueOf(cutoff), Date.valueOf(VideoViewerSketch.ALL_TIME), limit);
+    }
+}
@@ -0,0 +1,97 @@
+package com.project.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.backend.model.User;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns a bearer token into the request principal. The principal is built
+ * from the token's claims (no DB lookup), and tokens whose signature was
+ * already verified are served from a bounded cache without recomputing the HMAC.
+ */
+@Component
+public class AuthenticationCache {
+    private final JwtUtils jwtUtils;
+    private final TokenRevocationList revocationList;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+    private final Timer verifyValid;
+    private final Timer verifyInvalid;
+
+    public AuthenticationCache(
+            JwtUtils jwtUtils,
+            TokenRevocationList revocationList,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.cache.max-tokens:50000}") long maxTokens,
+            @Value("${jwt.cache.ttl-ms:300000}") long tokenTtlMs
+    ) {
+        this.jwtUtils = jwtUtils;
+        this.revocationList = revocationList;
+        // Same tag keys as the Spring-managed caches: Prometheus drops cache.* series whose tag keys differ
+        this.verifiedTokens = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                        .maximumSize(maxTokens)
+                        .expireAfterWrite(Duration.ofMillis(tokenTtlMs))
+                        .recordStats()
+                        .<String, VerifiedToken>build(), "jwt.verified-tokens",
+                Tags.of("cache.manager", "authenticationCache", "name", "jwt.verified-tokens"));
+        this.verifyValid = verifyTimer(meterRegistry, "valid");
+        this.verifyInvalid = verifyTimer(meterRegistry, "invalid");
+    }
+
+    // Principal of a valid, unrevoked token, or null
+    public User authenticate(String token) {
+        VerifiedToken verified = verifiedTokens.getIfPresent(token);
+        if (verified == null) {
+            long started = System.nanoTime();
+            Claims claims = jwtUtils.parseToken(token);
+            boolean valid = claims != null && claims.get(JwtUtils.CLAIM_USER_ID) != null;
+            (valid ? verifyValid : verifyInvalid).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            if (!valid) {
+                return null;
+            }
+            verified = new VerifiedToken(toPrincipal(claims), claims.get(JwtUtils.CLAIM_SESSION_ID, String.class),
+                    claims.getExpiration().getTime());
+            verifiedTokens.put(token, verified);
+        }
+
+        // A cached entry can outlive the token itself; revocation is checked on every request
+        if (verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            verifiedTokens.invalidate(token);
+            return null;
+        }
+        if (verified.sessionId() != null && revocationList.isRevoked(verified.sessionId())) {
+            return null;
+        }
+        return verified.principal();
+    }
+
+    // Signature check and claim parsing on a cache miss
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verify")
+                .description("Time to verify a bearer token that was not in the cache")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static User toPrincipal(Claims claims) {
+        User user = new User();
+        user.setId(claims.get(JwtUtils.CLAIM_USER_ID, Long.class));
+        user.setEmail(claims.getSubject());
+        user.setUsername(claims.get(JwtUtils.CLAIM_USERNAME, String.class));
+        user.setActivated(Boolean.TRUE.equals(claims.get(JwtUtils.CLAIM_ACTIVATED, Boolean.class)));
+        return user;
+    }
+
+    private record VerifiedToken(User principal, String sessionId, long expiresAtMillis) {
+    }
+}
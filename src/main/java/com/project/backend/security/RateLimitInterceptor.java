@@ -0,0 +1,85 @@
+package com.project.backend.security;
+
+import com.project.backend.model.User;
+import com.project.backend.service.RateLimitService;
+import com.project.backend.util.RateLimitDecision;
+import com.project.backend.util.RequestUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Enforces {@link RateLimited} policies and reports them with the
+ * RateLimit-Limit / -Remaining / -Reset / -Policy headers. Runs after the
+ * security filters, so the authenticated user is known.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor, SmartInitializingSingleton {
+    private final RateLimitService rateLimitService;
+    private final ListableBeanFactory beanFactory;
+
+    // Fails startup on a @RateLimited method that names a policy nobody configured
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (RequestMappingHandlerMapping mapping : beanFactory.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+                RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+                if (rateLimited != null && !rateLimitService.hasPolicy(rateLimited.value())) {
+                    throw new IllegalStateException("Unknown rate limit policy '" + rateLimited.value() + "' on "
+                            + handlerMethod.getShortLogMessage());
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return true;
+        }
+
+        String policy = rateLimited.value();
+        RateLimitDecision decision = rateLimitService.tryConsume(policy, resolveKey(rateLimited.key(), request));
+
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+        response.setHeader("RateLimit-Policy", rateLimitService.describe(policy));
+
+        if (decision.allowed()) {
+            return true;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests. Please try again later.\"}");
+        return false;
+    }
+
+    public static String resolveKey(RateLimited.Key key, HttpServletRequest request) {
+        if (key == RateLimited.Key.USER_OR_IP) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof User user) {
+                return "user:" + user.getId();
+            }
+        }
+        return "ip:" + RequestUtils.getClientIP(request);
+    }
+}
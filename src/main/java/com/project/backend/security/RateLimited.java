@@ -0,0 +1,23 @@
+package com.project.backend.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Applies the named {@code rate-limit.policies.*} policy to a controller method.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+    String value();
+
+    Key key() default Key.USER_OR_IP;
+
+    enum Key {
+        // Authenticated user id, client IP for anonymous requests
+        USER_OR_IP,
+        IP
+    }
+}
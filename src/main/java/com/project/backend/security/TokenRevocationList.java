@@ -0,0 +1,72 @@
+package com.project.backend.security;
+
+import com.project.backend.config.CacheInvalidationBus;
+import com.project.backend.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sessions whose access tokens must be rejected before they expire (logout,
+ * refresh-token reuse). An entry is only needed until the last access token
+ * of the session has expired, so the set stays small.
+ * <p>
+ * Revocations reach the other nodes over the invalidation bus, and a node
+ * that starts up reloads the recently revoked sessions from refresh_tokens.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+    private static final String TOPIC = "revocation";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final CacheInvalidationBus bus;
+    private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+    private final long accessTokenTtlMs;
+
+    public TokenRevocationList(JwtUtils jwtUtils, RefreshTokenRepository refreshTokenRepository,
+                               CacheInvalidationBus bus) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.bus = bus;
+        this.accessTokenTtlMs = jwtUtils.getAccessTokenExpiration();
+        bus.subscribe(TOPIC, this::revokeLocally);
+    }
+
+    public void revokeSession(String sessionId) {
+        revokeLocally(sessionId);
+        bus.publish(TOPIC, sessionId);
+    }
+
+    public boolean isRevoked(String sessionId) {
+        Long until = revokedUntil.get(sessionId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    // Access tokens are issued together with a refresh token, so a session with no token newer
+    // than the access token lifetime has no valid access tokens left to reject
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRecentRevocations() {
+        List<String> sessionIds = refreshTokenRepository.findRevokedSessionIdsIssuedAfter(
+                LocalDateTime.now().minus(Duration.ofMillis(accessTokenTtlMs)));
+        sessionIds.forEach(this::revokeLocally);
+        log.info("Loaded {} recently revoked sessions", sessionIds.size());
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedUntil.values().removeIf(until -> until <= now);
+    }
+
+    private void revokeLocally(String sessionId) {
+        revokedUntil.put(sessionId, System.currentTimeMillis() + accessTokenTtlMs);
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.backend.service;
 
 import com.project.backend.dto.AuthResponse;
+import com.project.backend.dto.AvailabilityResponse;
 import com.project.backend.dto.LoginRequest;
 import com.project.backend.dto.RegisterRequest;
 import com.project.backend.model.User;
@@ -8,9 +9,9 @@ import com.project.backend.model.Address;
 import com.project.backend.repository.UserRepository;
 import com.project.backend.security.JwtUtils;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.UUID;
 
@@ -18,12 +19,15 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AuthService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtils jwtUtils;
     private final EmailService emailService;
     private final RateLimitService rateLimitService;
+    private final RefreshTokenService refreshTokenService;
+    private final TransactionTemplate transactionTemplate;
+    private final AvailabilityService availabilityService;
 
-    @Transactional
+    // The hash is computed before the transaction, so no DB connection is held during it
     public void register(RegisterRequest request) {
         // Check if passwords match
         if(!request.getPassword().equals(request.getConfirmPassword())) {
@@ -50,26 +54,30 @@ public class AuthService {
         User user = new User();
         user.setEmail(request.getEmail());
         user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.hash(request.getPassword()));
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setAddress(address);
         user.setActivated(false);
         user.setActivationToken(UUID.randomUUID().toString());
 
-        // Save user to database
-        userRepository.save(user);
+        availabilityService.onRegistering(user.getUsername(), user.getEmail());
 
-        // Send activation email
-        emailService.sendActivationEmail(user.getEmail(), user.getActivationToken());
+        // Save user and queue the activation email atomically; delivery happens in the background
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.save(user);
+            emailService.enqueueActivationEmail(user.getEmail(), user.getActivationToken());
+        });
     }
 
-    public AuthResponse login(LoginRequest request, String ipAddress) {
-        // Rate limiting
-        if(!rateLimitService.isAllowed(ipAddress)) {
-            throw new RuntimeException("Too many login attempts. Please try again later.");
-        }
+    public AvailabilityResponse checkAvailability(String username, String email) {
+        return new AvailabilityResponse(
+                username != null ? availabilityService.isUsernameAvailable(username) : null,
+                email != null ? availabilityService.isEmailAvailable(email) : null
+        );
+    }
 
+    public AuthResponse login(LoginRequest request, String ipAddress) {
         // Find user by email
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("Invalid email or password"));
@@ -80,14 +88,31 @@ public class AuthService {
         }
 
         // Check password
-        if(!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if(!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new RuntimeException("Invalid email or password");
         }
 
-        rateLimitService.resetAttempts(ipAddress);
+        passwordHashingService.upgradeIfNeeded(user.getId(), request.getPassword(), user.getPassword());
+
+        // Only failed attempts count against the login limit
+        rateLimitService.reset("login", "ip:" + ipAddress);
+
+        return toAuthResponse(refreshTokenService.startSession(user));
+    }
+
+    public AuthResponse refresh(String refreshToken) {
+        return toAuthResponse(refreshTokenService.rotate(refreshToken));
+    }
+
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
 
-        String token = jwtUtils.generateToken(user.getEmail());
-        return new AuthResponse(token, user.getId(), user.getUsername(), user.getEmail());
+    private AuthResponse toAuthResponse(RefreshTokenService.IssuedRefreshToken issued) {
+        User user = issued.user();
+        String accessToken = jwtUtils.generateAccessToken(user, issued.sessionId());
+        return new AuthResponse(accessToken, issued.token(), jwtUtils.getAccessTokenExpiration() / 1000,
+                user.getId(), user.getUsername(), user.getEmail());
     }
 
     @Transactional
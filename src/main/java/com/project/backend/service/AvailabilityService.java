@@ -0,0 +1,145 @@
+package com.project.backend.service;
+
+import com.project.backend.repository.UserRepository;
+import com.project.backend.util.BloomFilter;
+import com.project.backend.util.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Answers "is this username/email taken?" from Bloom filters over all
+ * registered users. A negative is definite, so most signup keystrokes never
+ * reach the database; only "maybe taken" is confirmed with an indexed lookup.
+ * Bloom filters cannot shrink or resize, so they are rebuilt periodically
+ * and soon after they fill past their planned capacity. Users created by
+ * other instances only appear after a rebuild, so answers are advisory;
+ * registration itself still checks the database.
+ */
+@Slf4j
+@Service
+public class AvailabilityService {
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long minExpectedUsers;
+    private final double falsePositiveRate;
+    private final long rebuildIntervalMs;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Filters current;
+    // Set while a rebuild scans the table, so registrations during the scan are not lost
+    private volatile Filters building;
+
+    private static class Filters {
+        final BloomFilter usernames;
+        final BloomFilter emails;
+        final long capacity;
+        final long builtAt = System.currentTimeMillis();
+        final AtomicLong size = new AtomicLong();
+
+        Filters(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.usernames = new BloomFilter(capacity, falsePositiveRate);
+            this.emails = new BloomFilter(capacity, falsePositiveRate);
+        }
+
+        void add(String username, String email) {
+            usernames.put(Hashing.hash64(username));
+            emails.put(Hashing.hash64(email));
+            size.incrementAndGet();
+        }
+    }
+
+    public AvailabilityService(
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${auth.availability.min-expected-users:100000}") long minExpectedUsers,
+            @Value("${auth.availability.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${auth.availability.rebuild-interval-ms:3600000}") long rebuildIntervalMs
+    ) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.minExpectedUsers = minExpectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        // A lock rather than synchronized: the scan blocks on JDBC and would pin a virtual thread
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            doRebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void doRebuild() {
+        // Twice the current user count leaves room to grow before the next rebuild
+        long capacity = Math.max(minExpectedUsers, userRepository.count() * 2);
+        Filters next = new Filters(capacity, falsePositiveRate);
+        building = next;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Object[]> users = userRepository.streamAllUsernamesAndEmails()) {
+                    users.forEach(row -> next.add((String) row[0], (String) row[1]));
+                }
+            });
+            current = next;
+            log.info("Availability filters built for {} users (capacity {})", next.size.get(), capacity);
+        } finally {
+            building = null;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.availability.check-interval-ms:60000}")
+    public void rebuildIfStale() {
+        Filters filters = current;
+        if (filters != null && (filters.size.get() > filters.capacity
+                || System.currentTimeMillis() - filters.builtAt > rebuildIntervalMs)) {
+            rebuild();
+        }
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        Filters filters = current;
+        if (filters != null && !filters.usernames.mightContain(Hashing.hash64(username))) {
+            return true;
+        }
+        return !userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        Filters filters = current;
+        if (filters != null && !filters.emails.mightContain(Hashing.hash64(email))) {
+            return true;
+        }
+        return !userRepository.existsByEmail(email);
+    }
+
+    // Called before the user is saved: a failed registration only costs a false positive
+    public void onRegistering(String username, String email) {
+        Filters filters = current;
+        if (filters != null) {
+            filters.add(username, email);
+        }
+        Filters next = building;
+        if (next != null) {
+            next.add(username, email);
+        }
+    }
+}
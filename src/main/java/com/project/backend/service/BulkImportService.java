@@ -0,0 +1,353 @@
+package com.project.backend.service;
+
+import com.project.backend.dto.BulkImportItem;
+import com.project.backend.dto.BulkImportRequest;
+import com.project.backend.dto.BulkImportStatus;
+import com.project.backend.model.Tag;
+import com.project.backend.model.User;
+import com.project.backend.repository.TagRepository;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.repository.VideoRepository;
+import com.project.backend.repository.VideoRepositoryCustom.NewVideo;
+import com.project.backend.service.FileStorageService.StagedFile;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports videos whose files are already on the server (a back catalog copied
+ * under app.import.root) without going through the upload endpoint one by one.
+ * Jobs run one at a time in the background: owners and tags are resolved for
+ * the whole manifest up front, then each chunk of items is staged in parallel
+ * (at most ioConcurrency file copies at once), inserted as one JDBC batch and
+ * moved into place, the same two phases as a single upload. Job state lives
+ * on the node that accepted the import.
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+    private static final int MAX_REPORTED_FAILURES = 1000;
+    // No content type to check on disk, so thumbnails are accepted by extension
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of(".jpg", ".jpeg", ".png", ".gif", ".webp");
+
+    private final FileStorageService fileStorageService;
+    private final VideoRepository videoRepository;
+    private final TagRepository tagRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Path root;
+    private final int chunkSize;
+    private final long retentionMs;
+    private final ExecutorService jobRunner;
+    private final ExecutorService io;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public BulkImportService(
+            FileStorageService fileStorageService,
+            VideoRepository videoRepository,
+            TagRepository tagRepository,
+            UserRepository userRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.import.root:imports}") String root,
+            @Value("${app.import.io-concurrency:4}") int ioConcurrency,
+            @Value("${app.import.chunk-size:500}") int chunkSize,
+            @Value("${app.import.job-retention-ms:86400000}") long retentionMs
+    ) {
+        this.fileStorageService = fileStorageService;
+        this.videoRepository = videoRepository;
+        this.tagRepository = tagRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.chunkSize = chunkSize;
+        this.retentionMs = retentionMs;
+        this.jobRunner = Executors.newSingleThreadExecutor(r -> daemon(r, "bulk-import"));
+        AtomicInteger threadCount = new AtomicInteger();
+        this.io = Executors.newFixedThreadPool(ioConcurrency,
+                r -> daemon(r, "bulk-import-io-" + threadCount.incrementAndGet()));
+    }
+
+    public BulkImportStatus submit(BulkImportRequest request, User user) {
+        Path directory = root.resolve(request.getDirectory()).normalize();
+        if (!directory.startsWith(root) || !Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("Import directory not found: " + request.getDirectory());
+        }
+        purgeFinishedJobs();
+
+        Job job = new Job(UUID.randomUUID().toString(), request.getItems().size());
+        jobs.put(job.id, job);
+        jobRunner.submit(() -> run(job, directory, request.getItems(), user));
+        return job.toStatus();
+    }
+
+    public Optional<BulkImportStatus> getStatus(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId)).map(Job::toStatus);
+    }
+
+    private void run(Job job, Path directory, List<BulkImportItem> items, User user) {
+        job.status = "RUNNING";
+        long started = System.nanoTime();
+        try {
+            Map<String, Long> ownerIds = resolveOwners(items);
+            Map<String, Long> tagIds = resolveTags(items);
+            for (int from = 0; from < items.size(); from += chunkSize) {
+                importChunk(job, directory, items, from, Math.min(from + chunkSize, items.size()),
+                        ownerIds, tagIds, user.getId());
+            }
+            job.status = "COMPLETED";
+        } catch (Exception e) {
+            log.error("Bulk import {} failed", job.id, e);
+            job.error = e.getMessage();
+            job.status = "FAILED";
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            log.info("Bulk import {} finished: {} imported, {} failed of {} in {} ms", job.id, job.imported.get(),
+                    job.failed.get(), job.total, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    // One query for all owners named in the manifest
+    private Map<String, Long> resolveOwners(List<BulkImportItem> items) {
+        Set<String> usernames = new LinkedHashSet<>();
+        for (BulkImportItem item : items) {
+            if (item.getUsername() != null) {
+                usernames.add(item.getUsername());
+            }
+        }
+        Map<String, Long> ownerIds = new HashMap<>();
+        if (!usernames.isEmpty()) {
+            for (Object[] row : userRepository.findIdsByUsernameIn(usernames)) {
+                ownerIds.put((String) row[0], (Long) row[1]);
+            }
+        }
+        return ownerIds;
+    }
+
+    // Missing tags are inserted in one batch, then all ids are read in one query
+    private Map<String, Long> resolveTags(List<BulkImportItem> items) {
+        Set<String> names = new LinkedHashSet<>();
+        for (BulkImportItem item : items) {
+            names.addAll(tagNames(item));
+        }
+        Map<String, Long> tagIds = new HashMap<>();
+        if (names.isEmpty()) {
+            return tagIds;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            tagRepository.insertMissing(names);
+            for (Tag tag : tagRepository.findByNameIn(names)) {
+                tagIds.put(tag.getName(), tag.getId());
+            }
+        });
+        return tagIds;
+    }
+
+    private void importChunk(Job job, Path directory, List<BulkImportItem> items, int from, int to,
+                             Map<String, Long> ownerIds, Map<String, Long> tagIds, Long defaultOwnerId)
+            throws InterruptedException {
+        // Phase 1: copy the files to staging, ioConcurrency at a time
+        List<Future<StagedItem>> staging = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            int index = i;
+            staging.add(io.submit(() -> stage(directory, index, items.get(index))));
+        }
+        List<StagedItem> staged = new ArrayList<>(staging.size());
+        for (int i = 0; i < staging.size(); i++) {
+            try {
+                staged.add(staging.get(i).get());
+            } catch (ExecutionException e) {
+                job.fail(from + i, items.get(from + i), e.getCause().getMessage());
+            }
+        }
+
+        List<StagedItem> valid = new ArrayList<>(staged.size());
+        List<NewVideo> rows = new ArrayList<>(staged.size());
+        for (StagedItem item : staged) {
+            BulkImportItem manifestItem = item.manifestItem();
+            Long ownerId = manifestItem.getUsername() == null ? defaultOwnerId : ownerIds.get(manifestItem.getUsername());
+            if (ownerId == null) {
+                discard(item);
+                job.fail(item.index(), manifestItem, "Unknown user: " + manifestItem.getUsername());
+                continue;
+            }
+            List<Long> itemTagIds = tagNames(manifestItem).stream().map(tagIds::get).toList();
+            valid.add(item);
+            rows.add(new NewVideo(ownerId, manifestItem.getTitle(), manifestItem.getDescription(),
+                    item.video().path(), item.thumbnail().path(), item.fileSize(), manifestItem.getLocation(),
+                    itemTagIds));
+        }
+
+        // Phase 2: one batch insert for the chunk
+        List<Long> ids;
+        try {
+            ids = videoRepository.insertAll(rows);
+        } catch (Exception e) {
+            for (StagedItem item : valid) {
+                discard(item);
+                job.fail(item.index(), item.manifestItem(), "Insert failed: " + e.getMessage());
+            }
+            return;
+        }
+
+        // Phase 3: move the files into place
+        List<Future<?>> moves = new ArrayList<>(valid.size());
+        for (StagedItem item : valid) {
+            moves.add(io.submit(() -> {
+                fileStorageService.promote(item.video());
+                fileStorageService.promote(item.thumbnail());
+            }));
+        }
+        for (int i = 0; i < moves.size(); i++) {
+            StagedItem item = valid.get(i);
+            try {
+                moves.get(i).get();
+                job.imported.incrementAndGet();
+                job.processed.incrementAndGet();
+            } catch (ExecutionException e) {
+                // Same compensation as a single upload: no row without its files
+                Long id = ids.get(i);
+                transactionTemplate.executeWithoutResult(status -> videoRepository.deleteById(id));
+                discard(item);
+                fileStorageService.deleteFile(item.video().path());
+                job.fail(item.index(), item.manifestItem(), e.getCause().getMessage());
+            }
+        }
+    }
+
+    private StagedItem stage(Path directory, int index, BulkImportItem item) {
+        Path video = resolveFile(directory, item.getVideoFile());
+        Path thumbnail = resolveFile(directory, item.getThumbnailFile());
+        if (!extension(video).equals(".mp4")) {
+            throw new IllegalArgumentException("Only MP4 video format is supported.");
+        }
+        if (!IMAGE_EXTENSIONS.contains(extension(thumbnail))) {
+            throw new IllegalArgumentException("Thumbnail must be an image file.");
+        }
+        long fileSize;
+        try {
+            fileSize = Files.size(video);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Cannot read " + item.getVideoFile());
+        }
+        if (fileSize > VideoService.MAX_VIDEO_SIZE) {
+            throw new IllegalArgumentException("Video file size exceeds the maximum limit of 200 MB.");
+        }
+
+        StagedFile stagedVideo = fileStorageService.stageFile(video, "videos");
+        try {
+            return new StagedItem(index, item, stagedVideo, fileStorageService.stageFile(thumbnail, "thumbnails"), fileSize);
+        } catch (RuntimeException e) {
+            fileStorageService.discard(stagedVideo);
+            throw e;
+        }
+    }
+
+    // Manifest paths may not leave the import directory
+    private static Path resolveFile(Path directory, String file) {
+        Path path = directory.resolve(file).normalize();
+        if (!path.startsWith(directory) || !Files.isRegularFile(path)) {
+            throw new IllegalArgumentException("File not found: " + file);
+        }
+        return path;
+    }
+
+    private static String extension(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot);
+    }
+
+    private static List<String> tagNames(BulkImportItem item) {
+        if (item.getTags() == null) {
+            return List.of();
+        }
+        return item.getTags().stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::toLowerCase)
+                .distinct()
+                .toList();
+    }
+
+    private void discard(StagedItem item) {
+        fileStorageService.discard(item.video());
+        fileStorageService.discard(item.thumbnail());
+    }
+
+    private void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMs * 1_000_000);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static Thread daemon(Runnable r, String name) {
+        Thread thread = new Thread(r, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobRunner.shutdownNow();
+        io.shutdownNow();
+    }
+
+    private record StagedItem(int index, BulkImportItem manifestItem, StagedFile video, StagedFile thumbnail,
+                              long fileSize) {
+    }
+
+    private static class Job {
+        private final String id;
+        private final int total;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger imported = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final List<BulkImportStatus.Failure> failures = Collections.synchronizedList(new ArrayList<>());
+        private volatile String status = "QUEUED";
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        Job(String id, int total) {
+            this.id = id;
+            this.total = total;
+        }
+
+        void fail(int index, BulkImportItem item, String error) {
+            if (failed.incrementAndGet() <= MAX_REPORTED_FAILURES) {
+                failures.add(new BulkImportStatus.Failure(index, item.getVideoFile(), error));
+            }
+            processed.incrementAndGet();
+        }
+
+        BulkImportStatus toStatus() {
+            List<BulkImportStatus.Failure> reported;
+            synchronized (failures) {
+                reported = new ArrayList<>(failures);
+            }
+            return new BulkImportStatus(id, status, total, processed.get(), imported.get(), failed.get(),
+                    reported, error, createdAt, finishedAt);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.project.backend.service;
+
+import com.project.backend.dto.CommentPage;
+import com.project.backend.dto.CommentRequest;
+import com.project.backend.dto.CommentResponse;
+import com.project.backend.model.Comment;
+import com.project.backend.model.User;
+import com.project.backend.repository.CommentRepository;
+import com.project.backend.repository.UserRepository;
+import com.project.backend.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Comments are threads with one level of replies. Pages are keyset-paged
+ * (the cursor is the last row's sort key), and the default first page of
+ * each ordering is kept in the two-tier "comments" cache, so opening a
+ * popular video's comments costs no query at all. The cache is bounded by
+ * app.cache.caches.comments.local-max-size, so it ends up holding the
+ * videos whose comments are actually being read.
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public enum Order {
+        // Newest threads first
+        RECENT,
+        // Most replied-to threads first
+        TOP;
+
+        public static Order parse(String value) {
+            try {
+                return valueOf(value.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown sort: " + value + " (expected recent or top)");
+            }
+        }
+    }
+
+    private final CommentRepository commentRepository;
+    private final VideoRepository videoRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Evicted after the transaction has committed, so a reader can't re-cache the old page
+    @Caching(evict = {
+            @CacheEvict(value = "comments", key = "#videoId + ':RECENT'"),
+            @CacheEvict(value = "comments", key = "#videoId + ':TOP'")
+    })
+    public CommentResponse addComment(Long videoId, CommentRequest request, User user) {
+        return transactionTemplate.execute(status -> {
+            if (!videoRepository.existsById(videoId)) {
+                throw new RuntimeException("Video not found");
+            }
+
+            Comment comment = new Comment();
+            // The principal comes from token claims and is not a managed entity
+            comment.setUser(userRepository.getReferenceById(user.getId()));
+            comment.setVideo(videoRepository.getReferenceById(videoId));
+            comment.setContent(request.getContent().trim());
+
+            if (request.getParentId() != null) {
+                Comment parent = commentRepository.findById(request.getParentId())
+                        .filter(c -> c.getVideo().getId().equals(videoId))
+                        .orElseThrow(() -> new IllegalArgumentException("Parent comment not found"));
+                // Replying to a reply adds to the same thread
+                if (parent.getParent() != null) {
+                    parent = parent.getParent();
+                }
+                comment.setParent(parent);
+                commentRepository.incrementReplyCount(parent.getId());
+            }
+
+            commentRepository.save(comment);
+            videoRepository.adjustCommentCount(videoId, 1);
+            return toResponse(comment, videoId, user.getUsername());
+        });
+    }
+
+    @Cacheable(value = "comments", key = "#videoId + ':' + #order",
+            condition = "#cursor == null && #size == T(com.project.backend.service.CommentService).DEFAULT_PAGE_SIZE",
+            sync = true)
+    public CommentPage getComments(Long videoId, Order order, String cursor, int size) {
+        // One extra row tells whether there is a next page
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<Comment> rows;
+        if (order == Order.TOP) {
+            if (cursor == null) {
+                rows = commentRepository.findTopThreads(videoId, limit);
+            } else {
+                long[] key = parseCursor(cursor, 2);
+                rows = commentRepository.findTopThreadsAfter(videoId, (int) key[0], key[1], limit);
+            }
+        } else {
+            rows = cursor == null
+                    ? commentRepository.findNewestThreads(videoId, limit)
+                    : commentRepository.findNewestThreadsBefore(videoId, parseCursor(cursor, 1)[0], limit);
+        }
+        return toPage(rows, videoId, size, last -> order == Order.TOP
+                ? last.getReplyCount() + ":" + last.getId()
+                : String.valueOf(last.getId()));
+    }
+
+    // Oldest first; not cached, only opened threads are read
+    public CommentPage getReplies(Long videoId, Long commentId, String cursor, int size) {
+        long afterId = cursor == null ? 0 : parseCursor(cursor, 1)[0];
+        List<Comment> rows = commentRepository.findReplies(videoId, commentId, afterId, PageRequest.ofSize(size + 1));
+        return toPage(rows, videoId, size, last -> String.valueOf(last.getId()));
+    }
+
+    private CommentPage toPage(List<Comment> rows, Long videoId, int size,
+                               Function<Comment, String> cursorOf) {
+        boolean more = rows.size() > size;
+        List<Comment> page = more ? rows.subList(0, size) : rows;
+        List<CommentResponse> items = new ArrayList<>(page.size());
+        for (Comment comment : page) {
+            items.add(toResponse(comment, videoId, comment.getUser().getUsername()));
+        }
+        return new CommentPage(items, more ? cursorOf.apply(page.get(page.size() - 1)) : null);
+    }
+
+    private static CommentResponse toResponse(Comment comment, Long videoId, String username) {
+        return new CommentResponse(
+                comment.getId(),
+                videoId,
+                comment.getParent() != null ? comment.getParent().getId() : null,
+                comment.getUser().getId(),
+                username,
+                comment.getContent(),
+                comment.getReplyCount(),
+                comment.getCreatedAt()
+        );
+    }
+
+    // Cursors are the last row's sort key: "id" or "replyCount:id"
+    private static long[] parseCursor(String cursor, int parts) {
+        String[] values = cursor.split(":");
+        if (values.length != parts) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        long[] key = new long[parts];
+        try {
+            for (int i = 0; i < parts; i++) {
+                key[i] = Long.parseLong(values[i]);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return key;
+    }
+}
@@ -0,0 +1,51 @@
+package com.project.backend.service;
+
+import com.project.backend.model.EmailOutbox;
+import com.project.backend.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxDispatcher {
+    private final EmailService emailService;
+    private final EmailOutboxRepository emailOutboxRepository;
+
+    @Value("${email.outbox.retention-days:7}")
+    private int retentionDays;
+
+    // Keeps draining while full batches come back, so a backlog clears without waiting for the next run
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        try {
+            List<EmailOutbox> batch;
+            do {
+                batch = emailService.claimDueBatch();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                Map<Long, String> failures = emailService.sendBatch(batch);
+                emailService.recordResults(batch, failures);
+                if (!failures.isEmpty()) {
+                    log.warn("{} of {} emails failed, scheduled for retry", failures.size(), batch.size());
+                    return;
+                }
+            } while (batch.size() == emailService.getBatchSize());
+        } catch (Exception e) {
+            log.error("Email dispatch failed, will retry on next run", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.purge-interval-ms:3600000}")
+    public void purgeSent() {
+        emailOutboxRepository.deleteSentBefore(LocalDateTime.now().minusDays(retentionDays));
+    }
+}
@@ -1,31 +1,170 @@
 package com.project.backend.service;
 
-import lombok.RequiredArgsConstructor;
+import com.project.backend.model.EmailOutbox;
+import com.project.backend.model.EmailStatus;
+import com.project.backend.repository.EmailOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Emails go through the email_outbox table: they are written in the caller's
+ * transaction and delivered later by {@link EmailOutboxDispatcher}, so an SMTP
+ * outage neither slows down nor rolls back the operation that sent them.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService {
     private final JavaMailSender mailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final String appUrl;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long leaseMs;
 
-    @Value("${app.url}")
-    private String appUrl;
+    public EmailService(
+            JavaMailSender mailSender,
+            EmailOutboxRepository emailOutboxRepository,
+            @Value("${app.url}") String appUrl,
+            @Value("${email.outbox.batch-size:50}") int batchSize,
+            @Value("${email.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${email.outbox.initial-backoff-ms:30000}") long initialBackoffMs,
+            @Value("${email.outbox.max-backoff-ms:3600000}") long maxBackoffMs,
+            @Value("${email.outbox.lease-ms:300000}") long leaseMs
+    ) {
+        this.mailSender = mailSender;
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.appUrl = appUrl;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.leaseMs = leaseMs;
+    }
 
-    public void sendActivationEmail(String to, String activationToken) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject("Account Activation - Jutjubic");
-        message.setText("Welcome to Jutjubic!\n\n" +
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueActivationEmail(String to, String activationToken) {
+        enqueue("activation:" + activationToken, to, "Account Activation - Jutjubic",
+                "Welcome to Jutjubic!\n\n" +
                 "Click the link below to activate your account:\n" +
                 appUrl + "/activate?token=" + activationToken + "\n\n" +
                 "Link will expire in 24 hours.\n\n" +
                 "If you did not sign up for this account, please ignore this email.\n\n" +
                 "Best regards,\n" +
                 "The Jutjubic Team");
+    }
+
+    private void enqueue(String idempotencyKey, String to, String subject, String body) {
+        if (emailOutboxRepository.existsByIdempotencyKey(idempotencyKey)) {
+            return;
+        }
+        EmailOutbox email = new EmailOutbox();
+        email.setIdempotencyKey(idempotencyKey);
+        email.setRecipient(to);
+        email.setSubject(subject);
+        email.setBody(body);
+        email.setNextAttemptAt(LocalDateTime.now());
+        emailOutboxRepository.save(email);
+    }
+
+    /**
+     * Claims up to one batch of due emails. Claimed rows are leased (pushed
+     * out of the due window) and their attempt counted before anything is
+     * sent, so a crash mid-send leads to a retry rather than a lost email.
+     */
+    @Transactional
+    public List<EmailOutbox> claimDueBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> batch = emailOutboxRepository.lockDueBatch(now, batchSize);
+        for (EmailOutbox email : batch) {
+            email.setAttempts(email.getAttempts() + 1);
+            email.setNextAttemptAt(now.plusNanos(leaseMs * 1_000_000L));
+        }
+        return batch;
+    }
+
+    /**
+     * Sends the batch over a single SMTP connection and returns the failures
+     * by outbox id. A connection or authentication failure fails the whole batch.
+     */
+    public Map<Long, String> sendBatch(List<EmailOutbox> batch) {
+        // Identity: two identical messages must still map back to their own rows
+        Map<SimpleMailMessage, Long> ids = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            EmailOutbox email = batch.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(email.getRecipient());
+            message.setSubject(email.getSubject());
+            message.setText(email.getBody());
+            messages[i] = message;
+            ids.put(message, email.getId());
+        }
+
+        Map<Long, String> failures = new HashMap<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                batch.forEach(email -> failures.put(email.getId(), describe(e)));
+            } else {
+                e.getFailedMessages().forEach((message, cause) ->
+                        failures.put(ids.get(message), describe(cause)));
+            }
+        } catch (MailException e) {
+            batch.forEach(email -> failures.put(email.getId(), describe(e)));
+        }
+        return failures;
+    }
+
+    @Transactional
+    public void recordResults(List<EmailOutbox> batch, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        for (EmailOutbox email : batch) {
+            String error = failures.get(email.getId());
+            if (error == null) {
+                email.setStatus(EmailStatus.SENT);
+                email.setSentAt(now);
+                email.setLastError(null);
+            } else if (email.getAttempts() >= maxAttempts) {
+                email.setStatus(EmailStatus.FAILED);
+                email.setLastError(error);
+                log.error("Giving up on email {} to {} after {} attempts: {}",
+                        email.getId(), email.getRecipient(), email.getAttempts(), error);
+            } else {
+                email.setNextAttemptAt(now.plusNanos(backoffMs(email.getAttempts()) * 1_000_000L));
+                email.setLastError(error);
+            }
+        }
+        emailOutboxRepository.saveAll(batch);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    // Exponential: initial, 2x, 4x ... capped at the maximum
+    long backoffMs(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        return Math.min(maxBackoffMs, initialBackoffMs << doublings);
+    }
 
-        mailSender.send(message);
+    private static String describe(Exception e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
     }
 }
@@ -0,0 +1,26 @@
+package com.project.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EngagementFlushJob {
+    private final EngagementStatsService engagementStatsService;
+    private final LiveCountsService liveCountsService;
+
+    @Scheduled(fixedDelayString = "${analytics.engagement.flush-interval-ms:60000}")
+    public void flush() {
+        EngagementStatsService.FlushBatch batch = engagementStatsService.collectCompletedMinutes();
+        try {
+            engagementStatsService.persist(batch);
+            engagementStatsService.markFlushed(batch);
+            batch.viewsByVideo().keySet().forEach(liveCountsService::markChanged);
+        } catch (Exception e) {
+            log.error("Failed to flush engagement stats, will retry on next run", e);
+        }
+    }
+}
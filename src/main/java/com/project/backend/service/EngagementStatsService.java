@@ -0,0 +1,275 @@
+package com.project.backend.service;
+
+import com.project.backend.dto.VideoStatsResponse;
+import com.project.backend.dto.VideoStatsResponse.StatPoint;
+import com.project.backend.model.StatGranularity;
+import com.project.backend.model.VideoStatBucket;
+import com.project.backend.repository.VideoRepository;
+import com.project.backend.repository.VideoStatBucketRepository;
+import com.project.backend.repository.VideoStatBucketRepositoryCustom.BucketDelta;
+import com.project.backend.util.MinuteRingCounter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-video view/like time series. Events go into in-memory per-minute ring
+ * counters; {@link EngagementFlushJob} rolls completed minutes up into hourly
+ * and daily buckets in video_stat_buckets.
+ */
+@Service
+public class EngagementStatsService {
+    private static final int VIEWS = 0;
+    private static final int LIKES = 1;
+    private static final int UNLIKES = 2;
+    private static final int METRICS = 3;
+    private static final int DEFAULT_POINTS = 24;
+
+    private final VideoStatBucketRepository bucketRepository;
+    private final VideoRepository videoRepository;
+    private final int ringMinutes;
+    private final int maxPoints;
+
+    private final Map<Long, VideoSeries> series = new ConcurrentHashMap<>();
+    // Only read and written by the flush job
+    private FlushBatch unpersisted;
+
+    public EngagementStatsService(
+            VideoStatBucketRepository bucketRepository,
+            VideoRepository videoRepository,
+            @Value("${analytics.engagement.ring-minutes:180}") int ringMinutes,
+            @Value("${analytics.stats.max-points:1500}") int maxPoints
+    ) {
+        this.bucketRepository = bucketRepository;
+        this.videoRepository = videoRepository;
+        this.ringMinutes = ringMinutes;
+        this.maxPoints = maxPoints;
+    }
+
+    public void recordView(Long videoId) {
+        record(videoId, VIEWS);
+    }
+
+    public void recordLike(Long videoId, boolean liked) {
+        record(videoId, liked ? LIKES : UNLIKES);
+    }
+
+    private void record(Long videoId, int metric) {
+        long minute = currentMinute();
+        while (true) {
+            VideoSeries videoSeries = series.get(videoId);
+            if (videoSeries == null) {
+                videoSeries = series.computeIfAbsent(videoId, id -> new VideoSeries(ringMinutes, minute));
+            }
+            // A retired series has been drained for the last time; wait for it to leave the map and start a new one
+            if (!videoSeries.acquire()) {
+                Thread.onSpinWait();
+                continue;
+            }
+            try {
+                videoSeries.counter.increment(minute, metric);
+                videoSeries.unflushed.increment(minute, metric);
+            } finally {
+                videoSeries.release();
+            }
+            return;
+        }
+    }
+
+    /**
+     * Drains every completed minute into hourly and daily deltas. Each minute's
+     * count is swapped out atomically, so a view or like that lands in a minute
+     * after it was drained is picked up by the next run instead of being lost.
+     * The batch is carried into the next one until {@link #markFlushed} is
+     * called, so a failed write is retried.
+     */
+    public FlushBatch collectCompletedMinutes() {
+        long lastCompleted = currentMinute() - 1;
+        Map<BucketKey, long[]> buckets = new HashMap<>();
+        Map<Long, Long> viewsByVideo = new HashMap<>();
+
+        if (unpersisted != null) {
+            for (BucketDelta delta : unpersisted.deltas()) {
+                long[] totals = buckets.computeIfAbsent(new BucketKey(delta.videoId(), delta.granularity(),
+                        toMinute(delta.bucketStart())), k -> new long[METRICS]);
+                totals[VIEWS] += delta.views();
+                totals[LIKES] += delta.likes();
+                totals[UNLIKES] += delta.unlikes();
+            }
+            viewsByVideo.putAll(unpersisted.viewsByVideo());
+        }
+
+        series.forEach((videoId, videoSeries) -> {
+            long from = Math.max(videoSeries.createdMinute, lastCompleted - ringMinutes + 1);
+            long through = lastCompleted;
+            long lastActive = Math.max(videoSeries.counter.getLastEventMinute(), videoSeries.createdMinute);
+            // Idle for a whole ring: once retired no record() can write to it, so this drain,
+            // through the current minute, is the last one and the series can go
+            if (lastCompleted - lastActive > ringMinutes && videoSeries.retire()) {
+                series.remove(videoId, videoSeries);
+                through = currentMinute();
+            }
+            long views = 0;
+            for (long minute = from; minute <= through; minute++) {
+                long minuteViews = videoSeries.unflushed.drain(minute, VIEWS);
+                long minuteLikes = videoSeries.unflushed.drain(minute, LIKES);
+                long minuteUnlikes = videoSeries.unflushed.drain(minute, UNLIKES);
+                if (minuteViews == 0 && minuteLikes == 0 && minuteUnlikes == 0) {
+                    continue;
+                }
+                for (StatGranularity granularity : List.of(StatGranularity.HOUR, StatGranularity.DAY)) {
+                    long[] totals = buckets.computeIfAbsent(
+                            new BucketKey(videoId, granularity, granularity.bucketStart(minute)), k -> new long[METRICS]);
+                    totals[VIEWS] += minuteViews;
+                    totals[LIKES] += minuteLikes;
+                    totals[UNLIKES] += minuteUnlikes;
+                }
+                views += minuteViews;
+            }
+            if (views > 0) {
+                viewsByVideo.merge(videoId, views, Long::sum);
+            }
+        });
+
+        List<BucketDelta> deltas = new ArrayList<>(buckets.size());
+        buckets.forEach((key, totals) -> deltas.add(new BucketDelta(key.videoId(), key.granularity(),
+                toDateTime(key.startMinute()), totals[VIEWS], totals[LIKES], totals[UNLIKES])));
+        unpersisted = new FlushBatch(lastCompleted, deltas, viewsByVideo);
+        return unpersisted;
+    }
+
+    @Transactional
+    public void persist(FlushBatch batch) {
+        bucketRepository.addToBuckets(batch.deltas());
+        // Ascending ids, so flushes from several nodes lock the video rows in the same order
+        new TreeMap<>(batch.viewsByVideo()).forEach(videoRepository::addViews);
+    }
+
+    // Stops carrying the batch
+    public void markFlushed(FlushBatch batch) {
+        if (unpersisted == batch) {
+            unpersisted = null;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public VideoStatsResponse getStats(Long videoId, LocalDateTime from, LocalDateTime to, String step) {
+        if (!videoRepository.existsById(videoId)) {
+            throw new RuntimeException("Video not found");
+        }
+
+        StatGranularity granularity;
+        try {
+            granularity = StatGranularity.valueOf(step.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Step must be one of: minute, hour, day");
+        }
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime start = from != null ? from : end.minusMinutes(granularity.getMinutes() * (DEFAULT_POINTS - 1));
+        long startMinute = granularity.bucketStart(toMinute(start));
+        long endMinute = granularity.bucketStart(toMinute(end));
+        if (endMinute < startMinute) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        if ((endMinute - startMinute) / granularity.getMinutes() + 1 > maxPoints) {
+            throw new IllegalArgumentException("Range too large, at most " + maxPoints + " points per request");
+        }
+
+        Map<Long, StatPoint> points = new LinkedHashMap<>();
+        for (long minute = startMinute; minute <= endMinute; minute += granularity.getMinutes()) {
+            points.put(minute, new StatPoint(toDateTime(minute), 0, 0, 0));
+        }
+
+        if (granularity == StatGranularity.MINUTE) {
+            // Minute resolution only exists in this node's ring, for the last ring-minutes minutes
+            VideoSeries videoSeries = series.get(videoId);
+            if (videoSeries != null) {
+                points.forEach((minute, point) -> {
+                    point.setViews(videoSeries.counter.get(minute, VIEWS));
+                    point.setLikes(videoSeries.counter.get(minute, LIKES));
+                    point.setUnlikes(videoSeries.counter.get(minute, UNLIKES));
+                });
+            }
+        } else {
+            for (VideoStatBucket bucket : bucketRepository.findByVideoIdAndGranularityAndBucketStartBetweenOrderByBucketStart(
+                    videoId, granularity, toDateTime(startMinute), toDateTime(endMinute))) {
+                StatPoint point = points.get(toMinute(bucket.getBucketStart()));
+                if (point != null) {
+                    point.setViews(bucket.getViews());
+                    point.setLikes(bucket.getLikes());
+                    point.setUnlikes(bucket.getUnlikes());
+                }
+            }
+        }
+
+        return new VideoStatsResponse(videoId, granularity.name().toLowerCase(Locale.ROOT), new ArrayList<>(points.values()));
+    }
+
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60_000;
+    }
+
+    private static long toMinute(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
+    }
+
+    public record FlushBatch(long throughMinute, List<BucketDelta> deltas, Map<Long, Long> viewsByVideo) {
+    }
+
+    private record BucketKey(Long videoId, StatGranularity granularity, long startMinute) {
+    }
+
+    private static class VideoSeries {
+        // Per-minute history for minute-resolution stats
+        final MinuteRingCounter counter;
+        // The same counts, drained by the flush job
+        final MinuteRingCounter unflushed;
+        final long createdMinute;
+        // record() calls in progress, or -1 once the flush job has retired the series
+        final AtomicInteger writers = new AtomicInteger();
+
+        VideoSeries(int ringMinutes, long createdMinute) {
+            this.counter = new MinuteRingCounter(ringMinutes, METRICS);
+            this.unflushed = new MinuteRingCounter(ringMinutes, METRICS);
+            this.createdMinute = createdMinute;
+        }
+
+        boolean acquire() {
+            while (true) {
+                int current = writers.get();
+                if (current < 0) {
+                    return false;
+                }
+                if (writers.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void release() {
+            writers.decrementAndGet();
+        }
+
+        // Only succeeds while no record() is writing, and every later one is turned away
+        boolean retire() {
+            return writers.compareAndSet(0, -1);
+        }
+    }
+}
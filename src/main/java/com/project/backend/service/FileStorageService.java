@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -18,9 +19,16 @@ import org.springframework.cache.annotation.CacheEvict;
 
 @Service
 public class FileStorageService {
+    // Under the upload dir so promote() is a rename on the same file system
+    public static final String STAGING_DIR = ".staging";
+
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
+    /** A file written to the staging area and the path it gets once promoted. */
+    public record StagedFile(Path stagedPath, String path) {
+    }
+
     public String storeFile(MultipartFile file, String subDirectory){
         try {
             // Create the upload directory if it doesn't exist
@@ -45,6 +53,59 @@ public class FileStorageService {
         }
     }
 
+    // Writes outside the final directories; nothing references the file until promote()
+    public StagedFile stageFile(MultipartFile file, String subDirectory) {
+        try (InputStream in = file.getInputStream()) {
+            return stage(in, file.getOriginalFilename(), subDirectory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store file: " + e.getMessage());
+        }
+    }
+
+    // Copies a file that is already on this machine (bulk import); the source is left in place
+    public StagedFile stageFile(Path source, String subDirectory) {
+        try (InputStream in = Files.newInputStream(source)) {
+            return stage(in, source.getFileName().toString(), subDirectory);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to store file: " + e.getMessage());
+        }
+    }
+
+    private StagedFile stage(InputStream in, String originalFilename, String subDirectory) throws IOException {
+        Path stagingPath = Paths.get(uploadDir, STAGING_DIR);
+        Files.createDirectories(stagingPath);
+
+        String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        String newFilename = UUID.randomUUID().toString() + extension;
+
+        Path stagedPath = stagingPath.resolve(newFilename);
+        Files.copy(in, stagedPath);
+        return new StagedFile(stagedPath, subDirectory + "/" + newFilename);
+    }
+
+    public void promote(StagedFile file) {
+        try {
+            Path target = Paths.get(uploadDir, file.path());
+            Files.createDirectories(target.getParent());
+            Files.move(file.stagedPath(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to move file into place: " + e.getMessage());
+        }
+    }
+
+    // Best effort, the orphan reaper removes whatever is left behind
+    public void discard(StagedFile file) {
+        try {
+            Files.deleteIfExists(file.stagedPath());
+        } catch (IOException e) {
+            // Left for UploadReaperJob
+        }
+    }
+
+    public Path getUploadRoot() {
+        return Paths.get(uploadDir);
+    }
+
     @CacheEvict(value = "thumbnails", key = "#filePath")
     public void deleteFile(String filePath) {
         try {
@@ -55,7 +116,7 @@ public class FileStorageService {
         }
     }
 
-    @Cacheable(value = "thumbnails", key = "#filePath")
+    @Cacheable(value = "thumbnails", key = "#filePath", sync = true)
     public byte[] readThumbnail(String filePath) throws IOException {
         Path path = Paths.get(uploadDir, filePath);
         return Files.readAllBytes(path);
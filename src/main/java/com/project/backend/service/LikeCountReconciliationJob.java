@@ -0,0 +1,34 @@
+package com.project.backend.service;
+
+import com.project.backend.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciliationJob {
+    private final VideoRepository videoRepository;
+
+    @Value("${likes.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    // Each id range runs in its own transaction so no long-held locks on videos
+    @Scheduled(
+            initialDelayString = "${likes.reconcile-interval-ms:600000}",
+            fixedDelayString = "${likes.reconcile-interval-ms:600000}"
+    )
+    public void reconcile() {
+        long maxId = videoRepository.findMaxId();
+        int fixed = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+            fixed += videoRepository.reconcileLikeCounts(fromId, fromId + batchSize - 1);
+        }
+        if (fixed > 0) {
+            log.warn("Reconciled like_count drift on {} videos", fixed);
+        }
+    }
+}
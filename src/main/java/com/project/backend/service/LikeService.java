@@ -1,50 +1,94 @@
 package com.project.backend.service;
 
+import com.project.backend.dto.LikeResponse;
 import com.project.backend.model.Like;
 import com.project.backend.model.User;
-import com.project.backend.model.Video;
 import com.project.backend.repository.LikeRepository;
+import com.project.backend.repository.UserRepository;
 import com.project.backend.repository.VideoRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class LikeService {
     private final LikeRepository likeRepository;
     private final VideoRepository videoRepository;
+    private final UserRepository userRepository;
+    private final LikedVideosCache likedVideosCache;
+    private final EngagementStatsService engagementStatsService;
+    private final LiveCountsService liveCountsService;
 
     @Transactional
-    public boolean toggleLike(Long videoId, User user) {
-        Video video = videoRepository.findById(videoId)
-                .orElseThrow(() -> new RuntimeException("Video not found"));
+    public LikeResponse toggleLike(Long videoId, User user) {
+        if (!videoRepository.existsById(videoId)) {
+            throw new RuntimeException("Video not found");
+        }
 
-        // Check if user already liked
-        if (likeRepository.existsByUserIdAndVideoId(user.getId(), videoId)) {
+        boolean liked;
+        if (likeRepository.deleteByUserIdAndVideoId(user.getId(), videoId) > 0) {
             // Unlike
-            likeRepository.deleteByUserIdAndVideoId(user.getId(), videoId);
-            video.setLikeCount(video.getLikeCount() - 1);
-            videoRepository.save(video);
-            return false; // unliked
+            videoRepository.adjustLikeCount(videoId, -1);
+            liked = false;
         } else {
             // Like
             Like like = new Like();
-            like.setUser(user);
-            like.setVideo(video);
+            // The principal comes from token claims and is not a managed entity
+            like.setUser(userRepository.getReferenceById(user.getId()));
+            like.setVideo(videoRepository.getReferenceById(videoId));
             likeRepository.save(like);
 
-            video.setLikeCount(video.getLikeCount() + 1);
-            videoRepository.save(video);
-            return true; // liked
+            videoRepository.adjustLikeCount(videoId, 1);
+            liked = true;
         }
+        likedVideosCache.onLikeToggled(user.getId(), videoId, liked);
+        afterCommit(() -> {
+            engagementStatsService.recordLike(videoId, liked);
+            liveCountsService.markChanged(videoId);
+        });
+
+        // The row lock from the update is held until commit, so this is our own post-update value
+        int likeCount = videoRepository.findLikeCountById(videoId).orElse(0);
+        return new LikeResponse(liked, likeCount);
     }
 
+    @Transactional(readOnly = true)
     public boolean isLikedByUser(Long videoId, Long userId) {
-        return likeRepository.existsByUserIdAndVideoId(userId, videoId);
+        return likedVideosCache.isLiked(userId, videoId);
+    }
+
+    // Answered from the liked-video cache: at most one query to load the user's likes
+    @Transactional(readOnly = true)
+    public Map<Long, Boolean> getLikedStatus(List<Long> videoIds, Long userId) {
+        Map<Long, Boolean> status = new LinkedHashMap<>();
+        for (Long videoId : videoIds) {
+            status.put(videoId, userId != null && likedVideosCache.isLiked(userId, videoId));
+        }
+        return status;
     }
 
     public long getLikeCount(Long videoId) {
-        return likeRepository.countByVideoId(videoId);
+        return videoRepository.findLikeCountById(videoId).orElse(0);
+    }
+
+    // A rolled-back toggle must not show up in the stats or on live streams
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
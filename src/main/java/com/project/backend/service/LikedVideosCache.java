@@ -0,0 +1,165 @@
+package com.project.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.backend.config.CacheInvalidationBus;
+import com.project.backend.repository.LikeRepository;
+import com.project.backend.util.BloomFilter;
+import com.project.backend.util.Hashing;
+import com.project.backend.util.LongHashSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * In-memory view of which videos each user has liked. A Bloom filter over all
+ * (user, video) pairs answers "definitely not liked" without touching the
+ * per-user sets, which are loaded lazily and bounded by total cached ids.
+ * Toggles made on other nodes arrive over the invalidation bus.
+ * <p>
+ * A user's set is loaded outside the cache's compute (a JDBC query must not
+ * run under its per-key lock), so a toggle can land between the query and
+ * the put. Each toggle bumps its user's stripe stamp first, and a load only
+ * caches its result if the stamp hasn't moved.
+ */
+@Slf4j
+@Component
+public class LikedVideosCache {
+    private static final String TOPIC = "liked-videos";
+    private static final int STAMP_STRIPES = 1024;
+
+    private final LikeRepository likeRepository;
+    private final CacheInvalidationBus bus;
+    private final Cache<Long, LongHashSet> likedByUser;
+    private final BloomFilter likedPairs;
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+    private volatile boolean bloomReady = false;
+
+    public LikedVideosCache(
+            LikeRepository likeRepository,
+            CacheInvalidationBus bus,
+            @Value("${likes.cache.max-cached-likes:2000000}") long maxCachedLikes,
+            @Value("${likes.cache.bloom-expected-likes:1000000}") long bloomExpectedLikes,
+            @Value("${likes.cache.bloom-false-positive-rate:0.01}") double bloomFalsePositiveRate
+    ) {
+        this.likeRepository = likeRepository;
+        this.likedByUser = Caffeine.newBuilder()
+                .maximumWeight(maxCachedLikes)
+                .weigher((Long userId, LongHashSet videoIds) -> videoIds.size() + 1)
+                .build();
+        this.likedPairs = new BloomFilter(bloomExpectedLikes, bloomFalsePositiveRate);
+        this.bus = bus;
+        bus.subscribe(TOPIC, this::onRemoteToggle);
+    }
+
+    // Until every existing like is in the filter its negative answers can't be trusted
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadBloomFilter() {
+        long count = 0;
+        try (Stream<Object[]> pairs = likeRepository.streamAllUserVideoPairs()) {
+            for (Object[] pair : (Iterable<Object[]>) pairs::iterator) {
+                likedPairs.put(Hashing.hash64((Long) pair[0], (Long) pair[1]));
+                count++;
+            }
+        }
+        bloomReady = true;
+        log.info("Liked-video Bloom filter loaded with {} likes", count);
+    }
+
+    public boolean isLiked(Long userId, Long videoId) {
+        if (bloomReady && !likedPairs.mightContain(Hashing.hash64(userId, videoId))) {
+            return false;
+        }
+        LongHashSet videoIds = likedByUser.getIfPresent(userId);
+        if (videoIds == null) {
+            videoIds = loadUserLikes(userId);
+        }
+        synchronized (videoIds) {
+            return videoIds.contains(videoId);
+        }
+    }
+
+    /**
+     * Must be called from inside the transaction that toggled the like. The
+     * filter is updated right away (a false "maybe" is harmless); the user's
+     * set only after commit so a rollback never leaves a phantom like behind.
+     */
+    public void onLikeToggled(Long userId, Long videoId, boolean liked) {
+        if (liked) {
+            likedPairs.put(Hashing.hash64(userId, videoId));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyToggle(userId, videoId, liked);
+                    bus.publish(TOPIC, userId + ":" + videoId + ":" + liked);
+                }
+            });
+        } else {
+            applyToggle(userId, videoId, liked);
+            bus.publish(TOPIC, userId + ":" + videoId + ":" + liked);
+        }
+    }
+
+    // Messages from different nodes may arrive out of order, so the user's set is reloaded
+    // rather than patched; the filter only ever gains pairs, so adding is order-independent
+    private void onRemoteToggle(String payload) {
+        String[] parts = payload.split(":");
+        long userId = Long.parseLong(parts[0]);
+        if (Boolean.parseBoolean(parts[2])) {
+            likedPairs.put(Hashing.hash64(userId, Long.parseLong(parts[1])));
+        }
+        stamps.incrementAndGet(stripe(userId));
+        likedByUser.invalidate(userId);
+    }
+
+    // Either the loaded set is already cached and gets patched here, or the stamp bump keeps
+    // a load that may have missed this toggle from being cached
+    private void applyToggle(Long userId, Long videoId, boolean liked) {
+        stamps.incrementAndGet(stripe(userId));
+        likedByUser.asMap().computeIfPresent(userId, (id, videoIds) -> {
+            synchronized (videoIds) {
+                if (liked) {
+                    videoIds.add(videoId);
+                } else {
+                    videoIds.remove(videoId);
+                }
+            }
+            return videoIds;
+        });
+    }
+
+    // Concurrent first requests for one user may each run the query; only one result is kept
+    private LongHashSet loadUserLikes(Long userId) {
+        long stamp = stamps.get(stripe(userId));
+        List<Long> videoIds = likeRepository.findVideoIdsByUserId(userId);
+        LongHashSet loaded = new LongHashSet(videoIds.size());
+        for (Long videoId : videoIds) {
+            loaded.add(videoId);
+        }
+        // In-memory only, so holding the per-key lock here is fine
+        LongHashSet cached = likedByUser.asMap().compute(userId, (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            return stamps.get(stripe(userId)) == stamp ? loaded : null;
+        });
+        return cached != null ? cached : loaded;
+    }
+
+    private static int stripe(long userId) {
+        return (int) (Hashing.mix64(userId) & (STAMP_STRIPES - 1));
+    }
+}
@@ -0,0 +1,277 @@
+package com.project.backend.service;
+
+import com.project.backend.dto.LiveCountsEvent;
+import com.project.backend.repository.VideoRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes like/view count changes to open SSE streams. There is one channel
+ * per watched video shared by all of its subscribers: changes only mark the
+ * channel dirty, and a single publisher tick reloads the counts of all dirty
+ * channels with one query and sends each change once per interval.
+ * <p>
+ * Writes to clients run on a small sender pool, never on the scheduler
+ * thread, and each subscriber has at most one pending event (the newest).
+ * A client whose write has been blocked for longer than live.send-timeout-ms
+ * is dropped, so a slow reader only ever holds up itself.
+ */
+@Slf4j
+@Service
+public class LiveCountsService {
+    private final VideoRepository videoRepository;
+    private final long emitterTimeoutMs;
+    private final int maxConnections;
+    private final int maxConnectionsPerVideo;
+    private final long sendTimeoutNanos;
+    private final ExecutorService senders;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+
+    public LiveCountsService(
+            VideoRepository videoRepository,
+            @Value("${live.timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${live.max-connections:20000}") int maxConnections,
+            @Value("${live.max-connections-per-video:5000}") int maxConnectionsPerVideo,
+            @Value("${live.send-timeout-ms:5000}") long sendTimeoutMs,
+            @Value("${live.sender-threads:8}") int senderThreads
+    ) {
+        this.videoRepository = videoRepository;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerVideo = maxConnectionsPerVideo;
+        this.sendTimeoutNanos = sendTimeoutMs * 1_000_000;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread thread = new Thread(r, "live-counts-send-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens a stream for the video, or returns null when a connection limit is reached.
+     */
+    public SseEmitter subscribe(Long videoId) {
+        if (openConnections.incrementAndGet() > maxConnections) {
+            openConnections.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        Channel channel;
+        try {
+            channel = join(videoId, subscriber);
+        } catch (RuntimeException e) {
+            openConnections.decrementAndGet();
+            throw e;
+        }
+        if (channel == null) {
+            openConnections.decrementAndGet();
+            return null;
+        }
+
+        Runnable unsubscribe = () -> unsubscribe(channel, subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        // Unless the publisher already queued newer counts for it
+        subscriber.pending.compareAndSet(null, toEvent(channel.lastSent));
+        scheduleSend(subscriber);
+        return emitter;
+    }
+
+    private Channel join(Long videoId, Subscriber subscriber) {
+        while (true) {
+            Channel channel = channels.computeIfAbsent(videoId, Channel::new);
+            if (channel.lastSent == null) {
+                // First subscriber loads the snapshot, later ones reuse the last published counts
+                channel.lastSent = videoRepository.findLiveCountsByIdIn(List.of(videoId)).stream()
+                        .findFirst()
+                        .orElseThrow(() -> {
+                            channels.remove(videoId, channel);
+                            return new RuntimeException("Video not found");
+                        });
+            }
+            synchronized (channel) {
+                if (channel.closed) {
+                    // Last subscriber just left and the channel was dropped, start a new one
+                    continue;
+                }
+                if (channel.subscribers.size() >= maxConnectionsPerVideo) {
+                    return null;
+                }
+                channel.subscribers.add(subscriber);
+                return channel;
+            }
+        }
+    }
+
+    // Called on every change; only flips a flag, the publisher does the work. Callers in a
+    // transaction call this after commit: a publisher tick in between would clear the flag
+    // and read the old counts, and the change would not be sent at all.
+    public void markChanged(Long videoId) {
+        Channel channel = channels.get(videoId);
+        if (channel != null) {
+            channel.dirty = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${live.publish-interval-ms:1000}")
+    public void publishChanges() {
+        List<Long> dirtyIds = new ArrayList<>();
+        channels.forEach((videoId, channel) -> {
+            if (channel.dirty) {
+                channel.dirty = false;
+                dirtyIds.add(videoId);
+            }
+        });
+        if (dirtyIds.isEmpty()) {
+            return;
+        }
+
+        for (LiveCountsEvent counts : videoRepository.findLiveCountsByIdIn(dirtyIds)) {
+            Channel channel = channels.get(counts.getVideoId());
+            if (channel == null || counts.equals(channel.lastSent)) {
+                continue;
+            }
+            channel.lastSent = counts;
+            broadcast(channel, toEvent(counts), true);
+        }
+    }
+
+    // Keeps idle streams alive through proxies and detects dead clients
+    @Scheduled(fixedDelayString = "${live.heartbeat-interval-ms:15000}")
+    public void sendHeartbeats() {
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("heartbeat").build();
+        channels.values().forEach(channel -> broadcast(channel, heartbeat, false));
+    }
+
+    public int getOpenConnections() {
+        return openConnections.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    // Never blocks: hands the event to the subscriber's sender. A counts event replaces
+    // whatever is still pending (it is a full snapshot); a heartbeat never replaces anything.
+    private void broadcast(Channel channel, Set<DataWithMediaType> event, boolean replace) {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : channel.subscribers) {
+            long started = subscriber.sendStartedAt;
+            if (started != 0 && now - started > sendTimeoutNanos) {
+                // Its sender completes the emitter once the blocked write returns
+                subscriber.dropped = true;
+                unsubscribe(channel, subscriber);
+                continue;
+            }
+            if (replace) {
+                subscriber.pending.set(event);
+            } else {
+                subscriber.pending.compareAndSet(null, event);
+            }
+            scheduleSend(subscriber);
+        }
+    }
+
+    private void scheduleSend(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> send(subscriber));
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> event;
+            while (!subscriber.dropped && (event = subscriber.pending.getAndSet(null)) != null) {
+                subscriber.sendStartedAt = System.nanoTime();
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    subscriber.emitter.completeWithError(e);
+                    return;
+                } finally {
+                    subscriber.sendStartedAt = 0;
+                }
+            }
+            if (subscriber.dropped) {
+                subscriber.emitter.complete();
+            }
+        } finally {
+            subscriber.sending.set(false);
+        }
+        // An event queued after the loop saw nothing pending but before the flag was cleared
+        if (!subscriber.dropped && subscriber.pending.get() != null) {
+            scheduleSend(subscriber);
+        }
+    }
+
+    private void unsubscribe(Channel channel, Subscriber subscriber) {
+        synchronized (channel) {
+            if (!channel.subscribers.remove(subscriber)) {
+                return;
+            }
+            openConnections.decrementAndGet();
+            if (channel.subscribers.isEmpty()) {
+                channel.closed = true;
+                channels.remove(channel.videoId, channel);
+            }
+        }
+    }
+
+    private static Set<DataWithMediaType> toEvent(LiveCountsEvent counts) {
+        return SseEmitter.event()
+                .name("counts")
+                .data(counts, MediaType.APPLICATION_JSON)
+                .build();
+    }
+
+    private static class Subscriber {
+        final SseEmitter emitter;
+        final AtomicReference<Set<DataWithMediaType>> pending = new AtomicReference<>();
+        final AtomicBoolean sending = new AtomicBoolean();
+        // System.nanoTime() when the current write started, 0 when idle
+        volatile long sendStartedAt;
+        volatile boolean dropped;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    private static class Channel {
+        final Long videoId;
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        volatile boolean dirty;
+        volatile boolean closed;
+        volatile LiveCountsEvent lastSent;
+
+        Channel(Long videoId) {
+            this.videoId = videoId;
+        }
+    }
+}
@@ -1,37 +1,98 @@
 package com.project.backend.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.backend.config.RateLimitProperties;
+import com.project.backend.util.RateLimitDecision;
+import com.project.backend.util.RateLimiter;
+import com.project.backend.util.SlidingWindowLimiter;
+import com.project.backend.util.TokenBucketLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
 
+/**
+ * Named rate limit policies from {@code rate-limit.policies.*}. Each policy
+ * keeps its own bounded, idle-evicted key space, so a scan from many clients
+ * cannot grow memory without limit.
+ */
 @Service
 public class RateLimitService {
+    private final Map<String, PolicyState> policies = new HashMap<>();
 
-    private final Map<String, AttemptInfo> loginAttempts = new ConcurrentHashMap<>();
-    private static final int MAX_ATTEMPTS = 5;
-    private static final long ATTEMPT_WINDOW_MS = 60000; // 1 minut
+    public RateLimitService(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        properties.getPolicies().forEach((name, policy) ->
+                policies.put(name, new PolicyState(name, policy, properties, meterRegistry)));
+    }
 
-    public boolean isAllowed(String ipAddress) {
-        AttemptInfo info = loginAttempts.computeIfAbsent(ipAddress, k -> new AttemptInfo());
+    public RateLimitDecision tryConsume(String policy, String key) {
+        PolicyState state = state(policy);
+        long now = System.nanoTime();
+        RateLimitDecision decision = state.limiters.get(key, k -> state.factory.apply(now)).tryAcquire(now);
+        if (!decision.allowed()) {
+            state.rejections.increment();
+        }
+        return decision;
+    }
 
-        long now = System.currentTimeMillis();
-        if (now - info.windowStart > ATTEMPT_WINDOW_MS) {
-            // Reset window
-            info.windowStart = now;
-            info.count.set(0);
+    public void reset(String policy, String key) {
+        RateLimiter limiter = state(policy).limiters.getIfPresent(key);
+        if (limiter != null) {
+            limiter.reset(System.nanoTime());
         }
+    }
+
+    public boolean hasPolicy(String policy) {
+        return policies.containsKey(policy);
+    }
 
-        return info.count.incrementAndGet() <= MAX_ATTEMPTS;
+    // Value of the RateLimit-Policy header, e.g. "5;w=60"
+    public String describe(String policy) {
+        return state(policy).description;
     }
 
-    public void resetAttempts(String ipAddress) {
-        loginAttempts.remove(ipAddress);
+    private PolicyState state(String policy) {
+        PolicyState state = policies.get(policy);
+        if (state == null) {
+            throw new IllegalArgumentException("Unknown rate limit policy: " + policy);
+        }
+        return state;
     }
 
-    private static class AttemptInfo {
-        long windowStart = System.currentTimeMillis();
-        AtomicInteger count = new AtomicInteger(0);
+    private static class PolicyState {
+        final Cache<String, RateLimiter> limiters;
+        final LongFunction<RateLimiter> factory;
+        final String description;
+        final Counter rejections;
+
+        PolicyState(String name, RateLimitProperties.Policy policy, RateLimitProperties properties,
+                    MeterRegistry meterRegistry) {
+            long windowNanos = TimeUnit.MILLISECONDS.toNanos(policy.getWindowMs());
+            if (policy.getAlgorithm() == RateLimitProperties.Algorithm.SLIDING_WINDOW) {
+                factory = now -> new SlidingWindowLimiter(policy.getLimit(), windowNanos, now);
+                description = policy.getLimit() + ";w=" + policy.getWindowMs() / 1000;
+            } else {
+                long burst = policy.getBurst() != null ? policy.getBurst() : policy.getLimit();
+                factory = now -> new TokenBucketLimiter(burst, policy.getLimit(), windowNanos, now);
+                description = burst + ";w=" + policy.getWindowMs() / 1000;
+            }
+
+            // Idle expiry only drops limiters that have fully recovered; size eviction drops rarely seen keys first
+            long idleMs = Math.max(properties.getIdleEvictionMs(), policy.getWindowMs());
+            limiters = Caffeine.newBuilder()
+                    .maximumSize(properties.getMaxKeys())
+                    .expireAfterAccess(Duration.ofMillis(idleMs))
+                    .build();
+            rejections = Counter.builder("rate.limit.rejections")
+                    .description("Requests rejected with 429 by a rate limit policy")
+                    .tag("policy", name)
+                    .register(meterRegistry);
+        }
     }
 }
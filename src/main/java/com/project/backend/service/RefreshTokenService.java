@@ -0,0 +1,115 @@
+package com.project.backend.service;
+
+import com.project.backend.model.RefreshToken;
+import com.project.backend.model.User;
+import com.project.backend.repository.RefreshTokenRepository;
+import com.project.backend.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Opaque, single-use refresh tokens. Each refresh rotates the token; presenting
+ * an already used token means it was copied, so the whole session is revoked.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationList revocationList;
+
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpiration;
+
+    public record IssuedRefreshToken(String token, String sessionId, User user) {
+    }
+
+    public static class RefreshTokenReuseException extends RuntimeException {
+        public RefreshTokenReuseException() {
+            super("Refresh token already used. Session revoked, please log in again.");
+        }
+    }
+
+    @Transactional
+    public IssuedRefreshToken startSession(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    // Reuse must commit the revocation even though the caller gets an error
+    @Transactional(noRollbackFor = RefreshTokenReuseException.class)
+    public IssuedRefreshToken rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
+
+        if (current.isRevoked() || current.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new RuntimeException("Invalid refresh token");
+        }
+
+        if (current.getUsedAt() != null) {
+            revokeSession(current.getSessionId());
+            throw new RefreshTokenReuseException();
+        }
+
+        User user = current.getUser();
+        if (!user.isActivated()) {
+            throw new RuntimeException("Invalid refresh token");
+        }
+
+        current.setUsedAt(LocalDateTime.now());
+        return issue(user, current.getSessionId());
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> revokeSession(token.getSessionId()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+    }
+
+    private void revokeSession(String sessionId) {
+        refreshTokenRepository.revokeSession(sessionId);
+        // Access tokens of the session are still valid until they expire; reject them now
+        revocationList.revokeSession(sessionId);
+    }
+
+    private IssuedRefreshToken issue(User user, String sessionId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setUser(user);
+        token.setTokenHash(hash(rawToken));
+        token.setSessionId(sessionId);
+        token.setExpiresAt(LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000L));
+        refreshTokenRepository.save(token);
+
+        return new IssuedRefreshToken(rawToken, sessionId, user);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
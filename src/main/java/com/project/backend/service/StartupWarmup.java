@@ -0,0 +1,141 @@
+package com.project.backend.service;
+
+import com.project.backend.model.Tag;
+import com.project.backend.repository.TagRepository;
+import com.project.backend.repository.VideoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads what the first requests after a deploy would otherwise all fetch from
+ * Postgres and disk at once: the feed (the same query GET /api/videos runs),
+ * thumbnail paths and bytes of the most viewed videos and the tag lookups used
+ * on upload. Runs on the application task executor once the context is up;
+ * readiness stays down until it finishes or timeoutMs passes (see WarmupHealthIndicator).
+ */
+@Slf4j
+@Service
+public class StartupWarmup {
+    private final VideoRepository videoRepository;
+    private final TagRepository tagRepository;
+    private final VideoService videoService;
+    private final FileStorageService fileStorageService;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+    private final int hotThumbnails;
+    private final int maxTags;
+    private final long timeoutMs;
+
+    private volatile boolean finished;
+    private volatile long startedAtNanos;
+    private volatile String failure;
+
+    public StartupWarmup(
+            VideoRepository videoRepository,
+            TagRepository tagRepository,
+            VideoService videoService,
+            FileStorageService fileStorageService,
+            @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.warmup.enabled:true}") boolean enabled,
+            @Value("${app.warmup.hot-thumbnails:200}") int hotThumbnails,
+            @Value("${app.warmup.max-tags:1000}") int maxTags,
+            @Value("${app.warmup.timeout-ms:60000}") long timeoutMs
+    ) {
+        this.videoRepository = videoRepository;
+        this.tagRepository = tagRepository;
+        this.videoService = videoService;
+        this.fileStorageService = fileStorageService;
+        this.taskExecutor = taskExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.enabled = enabled;
+        this.hotThumbnails = hotThumbnails;
+        this.maxTags = maxTags;
+        this.timeoutMs = timeoutMs;
+        this.finished = !enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        startedAtNanos = System.nanoTime();
+        taskExecutor.execute(this::run);
+    }
+
+    // A failed or slow warm-up only costs cold caches, so it never holds readiness back for good
+    public boolean isReady() {
+        return finished || (startedAtNanos != 0
+                && System.nanoTime() - startedAtNanos > TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    private void run() {
+        try {
+            int videos = warmFeed();
+            int thumbnails = warmThumbnails();
+            int tags = warmTags();
+            log.info("Startup warm-up loaded {} videos, {} thumbnails and {} tags in {} ms", videos, thumbnails,
+                    tags, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAtNanos));
+        } catch (RuntimeException e) {
+            failure = e.getMessage();
+            log.warn("Startup warm-up failed, serving with cold caches", e);
+        } finally {
+            finished = true;
+        }
+    }
+
+    // Anonymous feed: the same query, entities and mapping as GET /api/videos
+    private int warmFeed() {
+        return videoService.getAllVideos(null).size();
+    }
+
+    // Path lookup and file bytes, both of which the thumbnail endpoint caches
+    private int warmThumbnails() {
+        List<Long> ids = videoRepository.findMostViewedIds(PageRequest.of(0, hotThumbnails));
+        int loaded = 0;
+        for (Long id : ids) {
+            String path = videoService.getThumbnailPath(id);
+            try {
+                fileStorageService.readThumbnail(path);
+                loaded++;
+            } catch (IOException e) {
+                log.debug("Thumbnail {} of video {} not readable, skipping", path, id);
+            }
+        }
+        return loaded;
+    }
+
+    // Fills the query cache behind findByName, which upload calls once per tag
+    private int warmTags() {
+        return readOnlyTransaction.execute(status -> {
+            List<Tag> tags = tagRepository.findAll(PageRequest.of(0, maxTags)).getContent();
+            for (Tag tag : tags) {
+                tagRepository.findByName(tag.getName());
+            }
+            return tags.size();
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.project.backend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UniqueViewerFlushJob {
+    private final UniqueViewerService uniqueViewerService;
+
+    @Scheduled(fixedDelayString = "${analytics.unique-viewers.flush-interval-ms:60000}")
+    public void flush() {
+        for (UniqueViewerService.DrainedSketch sketch : uniqueViewerService.drainPending()) {
+            try {
+                uniqueViewerService.mergeIntoStore(sketch);
+            } catch (DataIntegrityViolationException e) {
+                // Usually the video was deleted; a constraint violation fails the same way on every retry
+                log.warn("Dropping viewer sketch for video {} ({}): {}", sketch.videoId(), sketch.day(), e.getMessage());
+            } catch (Exception e) {
+                log.error("Failed to flush viewer sketch for video {} ({})", sketch.videoId(), sketch.day(), e);
+                uniqueViewerService.restorePending(sketch);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.backend.service;
+
+import com.project.backend.model.VideoViewerSketch;
+import com.project.backend.repository.VideoRepository;
+import com.project.backend.repository.VideoViewerSketchRepository;
+import com.project.backend.util.Hashing;
+import com.project.backend.util.HyperLogLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Unique viewer estimation per video with HyperLogLog sketches. Views are
+ * collected in memory and merged into the persisted per-day and all-time
+ * sketches by {@link UniqueViewerFlushJob}.
+ */
+@Service
+@RequiredArgsConstructor
+public class UniqueViewerService {
+    private final VideoViewerSketchRepository sketchRepository;
+    private final VideoRepository videoRepository;
+
+    private final Map<SketchKey, PendingSketch> pending = new ConcurrentHashMap<>();
+
+    public void recordView(Long videoId, String viewerKey) {
+        long hash = Hashing.hash64(viewerKey);
+        updatePending(new SketchKey(videoId, LocalDate.now()), hll -> hll.offer(hash));
+    }
+
+    // Puts a sketch that failed to flush back so the next flush retries it
+    public void restorePending(DrainedSketch drained) {
+        updatePending(new SketchKey(drained.videoId(), drained.day()), hll -> hll.merge(drained.hll()));
+    }
+
+    // Removes everything collected so far; a sketch is never written to after it is drained
+    public List<DrainedSketch> drainPending() {
+        List<DrainedSketch> drained = new ArrayList<>();
+        for (SketchKey key : pending.keySet()) {
+            PendingSketch sketch = pending.remove(key);
+            if (sketch != null) {
+                synchronized (sketch) {
+                    sketch.drained = true;
+                }
+                drained.add(new DrainedSketch(key.videoId(), key.day(), sketch.hll));
+            }
+        }
+        return drained;
+    }
+
+    // Merges under a row lock so concurrent flushes from several nodes don't lose registers
+    @Transactional
+    public void mergeIntoStore(DrainedSketch drained) {
+        mergeRow(drained.videoId(), drained.day(), drained.hll());
+        long uniqueViewers = mergeRow(drained.videoId(), VideoViewerSketch.ALL_TIME, drained.hll());
+        videoRepository.updateUniqueViewers(drained.videoId(), uniqueViewers);
+    }
+
+    @Transactional(readOnly = true)
+    public long getUniqueViewers(Long videoId, LocalDate day) {
+        HyperLogLog sketch = sketchRepository.findByVideoIdAndDay(videoId, day)
+                .map(row -> HyperLogLog.fromBytes(row.getRegisters()))
+                .orElseGet(HyperLogLog::new);
+
+        PendingSketch unflushed = pending.get(new SketchKey(videoId, day));
+        if (unflushed != null) {
+            synchronized (unflushed) {
+                sketch.merge(unflushed.hll);
+            }
+        }
+        return sketch.cardinality();
+    }
+
+    private void updatePending(SketchKey key, Consumer<HyperLogLog> update) {
+        while (true) {
+            PendingSketch sketch = pending.computeIfAbsent(key, k -> new PendingSketch());
+            synchronized (sketch) {
+                if (!sketch.drained) {
+                    update.accept(sketch.hll);
+                    return;
+                }
+            }
+        }
+    }
+
+    private long mergeRow(Long videoId, LocalDate day, HyperLogLog delta) {
+        if (sketchRepository.insertIfAbsent(videoId, day, delta.toBytes()) > 0) {
+            return delta.cardinality();
+        }
+        VideoViewerSketch row = sketchRepository.findForUpdate(videoId, day)
+                .orElseThrow(() -> new IllegalStateException("Viewer sketch row vanished"));
+        HyperLogLog merged = HyperLogLog.fromBytes(row.getRegisters());
+        merged.merge(delta);
+        row.setRegisters(merged.toBytes());
+        return merged.cardinality();
+    }
+
+    private record SketchKey(Long videoId, LocalDate day) {
+    }
+
+    public record DrainedSketch(Long videoId, LocalDate day, HyperLogLog hll) {
+    }
+
+    private static class PendingSketch {
+        final HyperLogLog hll = new HyperLogLog();
+        boolean drained;
+    }
+}
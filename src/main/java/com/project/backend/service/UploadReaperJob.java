@@ -0,0 +1,274 @@
+package com.project.backend.service;
+
+import com.project.backend.repository.VideoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Deletes upload files nothing will ever reference: staged files of uploads
+ * that never finished and files under videos/ and thumbnails/ with no Video
+ * row. Only files older than minAgeMs are touched, so uploads in progress
+ * and rows not yet visible (replica lag) are safe.
+ * <p>
+ * A staged file whose final path already has a row belongs to an upload that
+ * committed but crashed before promote(); it is promoted instead. All lookups
+ * run before anything is touched, so a database error deletes nothing.
+ */
+@Slf4j
+@Component
+public class UploadReaperJob {
+    private final FileStorageService fileStorageService;
+    private final VideoRepository videoRepository;
+    private final long minAgeMs;
+    private final int parallelism;
+    private final int batchSize;
+
+    private final AtomicLong stagingDeleted = new AtomicLong();
+    private final AtomicLong unreferencedDeleted = new AtomicLong();
+    private final AtomicLong stagingPromoted = new AtomicLong();
+
+    public UploadReaperJob(
+            FileStorageService fileStorageService,
+            VideoRepository videoRepository,
+            @Value("${file.reaper.min-age-ms:3600000}") long minAgeMs,
+            @Value("${file.reaper.parallelism:4}") int parallelism,
+            @Value("${file.reaper.batch-size:500}") int batchSize
+    ) {
+        this.fileStorageService = fileStorageService;
+        this.videoRepository = videoRepository;
+        this.minAgeMs = minAgeMs;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${file.reaper.interval-ms:3600000}",
+            fixedDelayString = "${file.reaper.interval-ms:3600000}"
+    )
+    public void reap() {
+        try {
+            reap(Instant.now().minusMillis(minAgeMs));
+        } catch (Exception e) {
+            log.error("Upload reaper failed, will retry on next run", e);
+        }
+    }
+
+    void reap(Instant cutoff) {
+        Path root = fileStorageService.getUploadRoot();
+        FileTime olderThan = FileTime.from(cutoff);
+        Walk stagingWalk = new Walk(root.resolve(FileStorageService.STAGING_DIR), olderThan);
+        Walk videosWalk = new Walk(root.resolve("videos"), olderThan);
+        Walk thumbnailsWalk = new Walk(root.resolve("thumbnails"), olderThan);
+        // The walk is I/O bound (one stat per file), so it gets its own pool rather than the common one
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(stagingWalk, videosWalk, thumbnailsWalk)));
+        } finally {
+            pool.shutdown();
+        }
+        List<Path> staged = stagingWalk.join();
+        List<String> videos = relativePaths(root, videosWalk.join());
+        List<String> thumbnails = relativePaths(root, thumbnailsWalk.join());
+
+        // The staging name doesn't say which directory the file was headed for, so try both
+        List<String> stagedVideos = new ArrayList<>();
+        List<String> stagedThumbnails = new ArrayList<>();
+        for (Path file : staged) {
+            stagedVideos.add("videos/" + file.getFileName());
+            stagedThumbnails.add("thumbnails/" + file.getFileName());
+        }
+        Set<String> referencedVideos = referenced(stagedVideos, videoRepository::findVideoPathsIn);
+        Set<String> referencedThumbnails = referenced(stagedThumbnails, videoRepository::findThumbnailPathsIn);
+        referencedVideos.addAll(referenced(videos, videoRepository::findVideoPathsIn));
+        referencedThumbnails.addAll(referenced(thumbnails, videoRepository::findThumbnailPathsIn));
+
+        int stagingCount = 0;
+        int promotedCount = 0;
+        for (int i = 0; i < staged.size(); i++) {
+            Path file = staged.get(i);
+            String target = referencedVideos.contains(stagedVideos.get(i)) ? stagedVideos.get(i)
+                    : referencedThumbnails.contains(stagedThumbnails.get(i)) ? stagedThumbnails.get(i)
+                    : null;
+            if (target == null) {
+                if (deleteQuietly(file)) {
+                    stagingCount++;
+                }
+            } else if (promoteQuietly(file, target)) {
+                promotedCount++;
+            }
+        }
+        stagingDeleted.addAndGet(stagingCount);
+        stagingPromoted.addAndGet(promotedCount);
+
+        int unreferencedCount = deleteUnreferenced(videos, referencedVideos)
+                + deleteUnreferenced(thumbnails, referencedThumbnails);
+        unreferencedDeleted.addAndGet(unreferencedCount);
+
+        if (promotedCount > 0) {
+            log.warn("Upload reaper promoted {} staged files of uploads that committed but were never moved into place",
+                    promotedCount);
+        }
+        if (stagingCount + unreferencedCount > 0) {
+            log.info("Upload reaper deleted {} abandoned staged files and {} unreferenced files",
+                    stagingCount, unreferencedCount);
+        }
+    }
+
+    // Stored the way FileStorageService builds them: "videos/<name>"
+    private static List<String> relativePaths(Path root, List<Path> files) {
+        List<String> paths = new ArrayList<>(files.size());
+        for (Path file : files) {
+            paths.add(root.relativize(file).toString().replace(File.separatorChar, '/'));
+        }
+        return paths;
+    }
+
+    private Set<String> referenced(List<String> paths, Function<Collection<String>, List<String>> lookup) {
+        Set<String> inUse = new HashSet<>();
+        for (int from = 0; from < paths.size(); from += batchSize) {
+            inUse.addAll(lookup.apply(paths.subList(from, Math.min(from + batchSize, paths.size()))));
+        }
+        return inUse;
+    }
+
+    private int deleteUnreferenced(List<String> paths, Set<String> inUse) {
+        int deleted = 0;
+        for (String path : paths) {
+            if (!inUse.contains(path)) {
+                fileStorageService.deleteFile(path);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private boolean promoteQuietly(Path stagedFile, String path) {
+        try {
+            fileStorageService.promote(new FileStorageService.StagedFile(stagedFile, path));
+            return true;
+        } catch (RuntimeException e) {
+            // Most likely the upload itself promoted it in the meantime
+            log.warn("Could not promote {} to {}: {}", stagedFile, path, e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean deleteQuietly(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    public long getStagingDeleted() {
+        return stagingDeleted.get();
+    }
+
+    public long getUnreferencedDeleted() {
+        return unreferencedDeleted.get();
+    }
+
+    public long getStagingPromoted() {
+        return stagingPromoted.get();
+    }
+
+    // Regular files last modified before the cutoff, anywhere under dir
+    private static class Walk extends RecursiveTask<List<Path>> {
+        private final Path dir;
+        private final FileTime olderThan;
+
+        Walk(Path dir, FileTime olderThan) {
+            this.dir = dir;
+            this.olderThan = olderThan;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            if (!Files.isDirectory(dir)) {
+                return new ArrayList<>();
+            }
+            List<Path> entries = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                stream.forEach(entries::add);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new Scan(entries, 0, entries.size(), olderThan).compute();
+        }
+    }
+
+    // Stats a slice of one directory's entries; large directories (videos/ is flat) are split
+    // so the stats run in parallel, and subdirectories become their own Walk
+    private static class Scan extends RecursiveTask<List<Path>> {
+        private static final int CHUNK = 1024;
+
+        private final List<Path> entries;
+        private final int from;
+        private final int to;
+        private final FileTime olderThan;
+
+        Scan(List<Path> entries, int from, int to, FileTime olderThan) {
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.olderThan = olderThan;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            if (to - from > CHUNK) {
+                int middle = (from + to) >>> 1;
+                Scan left = new Scan(entries, from, middle, olderThan);
+                left.fork();
+                List<Path> files = new Scan(entries, middle, to, olderThan).compute();
+                files.addAll(left.join());
+                return files;
+            }
+            List<Path> files = new ArrayList<>();
+            List<Walk> subdirectories = new ArrayList<>();
+            for (Path entry : entries.subList(from, to)) {
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    continue; // Deleted or renamed since the listing
+                }
+                if (attributes.isDirectory()) {
+                    Walk walk = new Walk(entry, olderThan);
+                    walk.fork();
+                    subdirectories.add(walk);
+                } else if (attributes.isRegularFile() && attributes.lastModifiedTime().compareTo(olderThan) < 0) {
+                    files.add(entry);
+                }
+            }
+            for (Walk walk : subdirectories) {
+                files.addAll(walk.join());
+            }
+            return files;
+        }
+    }
+}
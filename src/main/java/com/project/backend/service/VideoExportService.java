@@ -0,0 +1,110 @@
+package com.project.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the whole video catalog as NDJSON, one object per line, straight
+ * from a JDBC cursor: no entities, no persistence context, no lists, so
+ * memory stays flat whatever the catalog size. Postgres only streams with a
+ * fetch size inside a transaction (autocommit off), hence the read-only
+ * transaction around the query.
+ */
+@Slf4j
+@Service
+public class VideoExportService {
+    // Tags per row through idx_video_tags_video; rows in primary key order so the plan is an index scan, not a sort
+    private static final String EXPORT_SQL =
+            "SELECT v.id, v.title, v.description, v.video_path, v.thumbnail_path, v.file_size, v.location, " +
+            "v.created_at, v.user_id, u.username, v.view_count, v.like_count, v.comment_count, v.unique_viewers, " +
+            "ARRAY(SELECT t.name FROM video_tags vt JOIN tags t ON t.id = vt.tag_id " +
+            "WHERE vt.video_id = v.id ORDER BY t.name) AS tags " +
+            "FROM videos v JOIN users u ON u.id = v.user_id " +
+            "ORDER BY v.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    public VideoExportService(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${app.export.fetch-size:1000}") int fetchSize
+    ) {
+        // Own template: the fetch size is per template and the shared one must keep the driver default
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    // Returns the number of videos written; the caller owns (and closes) out
+    public long export(OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        AtomicLong count = new AtomicLong();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            // Lines end with '\n' instead of Jackson's default " " between root values
+            generator.setRootValueSeparator(null);
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(EXPORT_SQL, rs -> {
+                try {
+                    writeVideo(generator, rs);
+                } catch (IOException e) {
+                    // Client went away: stop reading, the cursor closes with the transaction
+                    throw new UncheckedIOException(e);
+                }
+                count.incrementAndGet();
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        log.info("Exported {} videos in {} ms", count.get(), (System.nanoTime() - started) / 1_000_000);
+        return count.get();
+    }
+
+    private static void writeVideo(JsonGenerator generator, ResultSet rs) throws IOException, SQLException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", rs.getLong("id"));
+        generator.writeStringField("title", rs.getString("title"));
+        generator.writeStringField("description", rs.getString("description"));
+        generator.writeStringField("videoPath", rs.getString("video_path"));
+        generator.writeStringField("thumbnailPath", rs.getString("thumbnail_path"));
+        generator.writeNumberField("fileSize", rs.getLong("file_size"));
+        generator.writeStringField("location", rs.getString("location"));
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        generator.writeStringField("createdAt", createdAt != null ? createdAt.toLocalDateTime().toString() : null);
+        generator.writeNumberField("userId", rs.getLong("user_id"));
+        generator.writeStringField("username", rs.getString("username"));
+        generator.writeNumberField("viewCount", rs.getInt("view_count"));
+        generator.writeNumberField("likeCount", rs.getInt("like_count"));
+        generator.writeNumberField("commentCount", rs.getInt("comment_count"));
+        generator.writeNumberField("uniqueViewers", rs.getLong("unique_viewers"));
+        generator.writeArrayFieldStart("tags");
+        Array tags = rs.getArray("tags");
+        for (Object tag : (Object[]) tags.getArray()) {
+            generator.writeString((String) tag);
+        }
+        tags.free();
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Meters for the video endpoints: upload duration and size, active streams and
+ * bytes served, and like toggle latency. Latency timers publish percentile
+ * histograms so p99 can be aggregated across instances in Prometheus.
+ */
+@Component
+public class VideoMetrics {
+    private final MeterRegistry registry;
+    private final Timer uploadSuccess;
+    private final Timer uploadError;
+    private final Timer toggleLikeSuccess;
+    private final Timer toggleLikeError;
+    private final DistributionSummary uploadSize;
+    private final DistributionSummary uploadThroughput;
+    private final Counter uploadBytes;
+    private final AtomicInteger activeStreams = new AtomicInteger();
+    private final Counter streamedBytes;
+
+    public VideoMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.uploadSuccess = timer(registry, "video.upload", "Time to validate, store and save an uploaded video", "success");
+        this.uploadError = timer(registry, "video.upload", "Time to validate, store and save an uploaded video", "error");
+        this.toggleLikeSuccess = timer(registry, "video.like.toggle", "Time to like or unlike a video, including commit", "success");
+        this.toggleLikeError = timer(registry, "video.like.toggle", "Time to like or unlike a video, including commit", "error");
+        this.uploadSize = DistributionSummary.builder("video.upload.size")
+                .description("Size of uploaded video files")
+                .baseUnit("bytes")
+                .register(registry);
+        this.uploadThroughput = DistributionSummary.builder("video.upload.throughput")
+                .description("Per-upload rate at which the video was stored and saved")
+                .baseUnit("bytes.per.second")
+                .register(registry);
+        this.uploadBytes = Counter.builder("video.upload.bytes")
+                .description("Video bytes accepted by successful uploads")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("video.stream.active", activeStreams, AtomicInteger::get)
+                .description("Video responses currently being written")
+                .register(registry);
+        this.streamedBytes = Counter.builder("video.stream.bytes")
+                .description("Video bytes written to clients")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void recordUpload(Timer.Sample sample, long videoBytes, boolean success) {
+        long nanos = sample.stop(success ? uploadSuccess : uploadError);
+        if (success) {
+            uploadSize.record(videoBytes);
+            uploadBytes.increment(videoBytes);
+            if (nanos > 0) {
+                uploadThroughput.record(videoBytes * 1e9 / nanos);
+            }
+        }
+    }
+
+    public void recordToggleLike(Timer.Sample sample, boolean success) {
+        sample.stop(success ? toggleLikeSuccess : toggleLikeError);
+    }
+
+    // Resource whose bytes are counted as they are written; the stream is active until the body is closed
+    public Resource streamResource(Path file) {
+        return new FileSystemResource(file) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return new MeteredInputStream(super.getInputStream());
+            }
+        };
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description, String outcome) {
+        return Timer.builder(name)
+                .description(description)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private class MeteredInputStream extends FilterInputStream {
+        private boolean closed;
+
+        MeteredInputStream(InputStream in) {
+            super(in);
+            activeStreams.incrementAndGet();
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                streamedBytes.increment();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                streamedBytes.increment(n);
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                activeStreams.decrementAndGet();
+            }
+            super.close();
+        }
+    }
+}
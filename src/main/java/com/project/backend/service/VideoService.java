@@ -1,22 +1,30 @@
 package com.project.backend.service;
 
+import com.project.backend.config.EntityCacheInvalidator;
 import com.project.backend.dto.VideoResponse;
 import com.project.backend.dto.VideoUploadRequest;
 import com.project.backend.model.Tag;
 import com.project.backend.model.User;
 import com.project.backend.model.Video;
 import com.project.backend.repository.TagRepository;
+import com.project.backend.repository.UserRepository;
 import com.project.backend.repository.VideoRepository;
+import com.project.backend.service.FileStorageService.StagedFile;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,12 +32,17 @@ import java.util.stream.Collectors;
 public class VideoService {
     private final VideoRepository videoRepository;
     private final TagRepository tagRepository;
+    private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
     private final LikeService likeService;
+    private final UniqueViewerService uniqueViewerService;
+    private final EntityCacheInvalidator entityCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
 
-    private static final long MAX_VIDEO_SIZE = 200 * 1024 * 1024; // 200 MB
+    static final long MAX_VIDEO_SIZE = 200 * 1024 * 1024; // 200 MB
 
-    @Transactional
+    // Two phases: the files are streamed to staging with no transaction open, the row is
+    // committed in a short transaction, then the files are renamed into place
     public VideoResponse uploadVideo(
             VideoUploadRequest request,
             MultipartFile videoFile,
@@ -53,41 +66,86 @@ public class VideoService {
             throw new IllegalArgumentException("Thumbnail must be an image file.");
         }
 
+        StagedFile stagedVideo = null;
+        StagedFile stagedThumbnail = null;
         try {
             // Store files
-            String videoPath = fileStorageService.storeFile(videoFile, "videos");
-            String thumbnailPath = fileStorageService.storeFile(thumbnailFile, "thumbnails");
-
-            // Create Video entity
-            Video video = new Video();
-            video.setTitle(request.getTitle());
-            video.setDescription(request.getDescription());
-            video.setVideoPath(videoPath);
-            video.setThumbnailPath(thumbnailPath);
-            video.setFileSize(videoFile.getSize());
-            video.setLocation(request.getLocation());
-            video.setUser(user);
-
-            // Handle tags
-            if(request.getTags() != null && !request.getTags().isEmpty()) {
-                Set<Tag> tags = new HashSet<>();
-                for(String tagName : request.getTags()) {
-                    Tag tag = tagRepository.findByName(tagName.toLowerCase())
-                            .orElseGet(() -> tagRepository.save(new Tag(tagName.toLowerCase())));
-                    tags.add(tag);
-                }
-                video.setTags(tags);
-            }
+            stagedVideo = fileStorageService.stageFile(videoFile, "videos");
+            stagedThumbnail = fileStorageService.stageFile(thumbnailFile, "thumbnails");
 
-            // Save video to database
-            Video savedVideo = videoRepository.save(video);
+            String videoPath = stagedVideo.path();
+            String thumbnailPath = stagedThumbnail.path();
+            VideoResponse response = transactionTemplate.execute(status ->
+                    saveVideo(request, videoPath, thumbnailPath, videoFile.getSize(), user));
 
-            return mapToResponse(savedVideo, user.getId());
+            promoteFiles(response.getId(), stagedVideo, stagedThumbnail);
+            return response;
         } catch (Exception e) {
+            if (stagedVideo != null) {
+                fileStorageService.discard(stagedVideo);
+            }
+            if (stagedThumbnail != null) {
+                fileStorageService.discard(stagedThumbnail);
+            }
             throw new RuntimeException("Failed to upload video: " + e.getMessage());
         }
     }
 
+    private VideoResponse saveVideo(VideoUploadRequest request, String videoPath, String thumbnailPath,
+                                    long fileSize, User user) {
+        // Create Video entity
+        Video video = new Video();
+        video.setTitle(request.getTitle());
+        video.setDescription(request.getDescription());
+        video.setVideoPath(videoPath);
+        video.setThumbnailPath(thumbnailPath);
+        video.setFileSize(fileSize);
+        video.setLocation(request.getLocation());
+        video.setUser(userRepository.getReferenceById(user.getId()));
+
+        // Handle tags
+        if(request.getTags() != null && !request.getTags().isEmpty()) {
+            Set<Tag> tags = new HashSet<>();
+            boolean tagCreated = false;
+            for(String tagName : request.getTags()) {
+                Tag tag = tagRepository.findByName(tagName.toLowerCase()).orElse(null);
+                if (tag == null) {
+                    tag = tagRepository.save(new Tag(tagName.toLowerCase()));
+                    tagCreated = true;
+                }
+                tags.add(tag);
+            }
+            video.setTags(tags);
+            if (tagCreated) {
+                // Other nodes may have cached findByName misses for these names
+                entityCacheInvalidator.evictQueryResults();
+            }
+        }
+
+        // Save video to database
+        Video savedVideo = videoRepository.save(video);
+
+        return mapToResponse(savedVideo, user.getId());
+    }
+
+    // The row is committed but its files can't be moved into place: delete the row again
+    // rather than leave a video that can never be streamed
+    private void promoteFiles(Long videoId, StagedFile video, StagedFile thumbnail) {
+        boolean videoPromoted = false;
+        try {
+            fileStorageService.promote(video);
+            videoPromoted = true;
+            fileStorageService.promote(thumbnail);
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> videoRepository.deleteById(videoId));
+            if (videoPromoted) {
+                fileStorageService.deleteFile(video.path());
+            }
+            throw e;
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<VideoResponse> getAllVideos(Long currentUserId) {
         return videoRepository.findAllByOrderByCreatedAtDesc()
                 .stream()
@@ -95,7 +153,7 @@ public class VideoService {
                 .collect(Collectors.toList());
     }
 
-    @Cacheable(value = "thumbnails", key = "#videoId")
+    @Cacheable(value = "thumbnails", key = "#videoId", sync = true)
     public String getThumbnailPath(Long videoId) {
         Video video = videoRepository.findById(videoId)
                 .orElseThrow(() -> new RuntimeException("Video not found"));
@@ -103,7 +161,8 @@ public class VideoService {
         return video.getThumbnailPath();
     }
 
-    private VideoResponse mapToResponse(Video video, Long currentUserId) {
+    // Package-private so the JMH benchmarks can measure it in isolation
+    VideoResponse mapToResponse(Video video, Long currentUserId) {
         VideoResponse response = new VideoResponse();
         response.setId(video.getId());
         response.setTitle(video.getTitle());
@@ -119,6 +178,8 @@ public class VideoService {
         response.setUsername(video.getUser().getUsername());
         response.setViewCount(video.getViewCount());
         response.setLikeCount(video.getLikeCount());
+        response.setCommentCount(video.getCommentCount());
+        response.setUniqueViewers(video.getUniqueViewers() != null ? video.getUniqueViewers() : 0L);
 
         // Proveri da li je trenutni korisnik lajkovao video
         if (currentUserId != null) {
@@ -128,10 +189,28 @@ public class VideoService {
         return response;
     }
 
+    @Transactional(readOnly = true)
     public VideoResponse getVideoById(Long id, Long currentUserId) {
         Video video = videoRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Video not found"));
-        return mapToResponse(video, currentUserId);
+        VideoResponse response = mapToResponse(video, currentUserId);
+        response.setUniqueViewersToday(uniqueViewerService.getUniqueViewers(id, LocalDate.now()));
+        return response;
+    }
+
+    // One IN query for the videos (uploader and tags fetched with them), results in request order
+    @Transactional(readOnly = true)
+    public List<VideoResponse> getVideosByIds(List<Long> ids, Long currentUserId) {
+        Map<Long, Video> videosById = videoRepository.findAllWithUserAndTagsByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Video::getId, Function.identity()));
+
+        return ids.stream()
+                .distinct()
+                .map(videosById::get)
+                .filter(Objects::nonNull)
+                .map(video -> mapToResponse(video, currentUserId))
+                .collect(Collectors.toList());
     }
 
     public String getVideoPath(Long id) {
@@ -0,0 +1,45 @@
+package com.project.backend.service;
+
+import com.project.backend.repository.VideoViewerSketchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Deletes per-day viewer sketches (about 4KB each) once they fall out of the
+ * retention window. The all-time sketch of every video is kept.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewerSketchRetentionJob {
+    private final VideoViewerSketchRepository sketchRepository;
+
+    @Value("${analytics.unique-viewers.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${analytics.unique-viewers.retention-batch-size:1000}")
+    private int batchSize;
+
+    // Each batch commits on its own so no long-held locks on the table
+    @Scheduled(
+            initialDelayString = "${analytics.unique-viewers.retention-interval-ms:3600000}",
+            fixedDelayString = "${analytics.unique-viewers.retention-interval-ms:3600000}"
+    )
+    public void purge() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        int deleted = 0;
+        int batch;
+        do {
+            batch = sketchRepository.deleteDaysBefore(cutoff, batchSize);
+            deleted += batch;
+        } while (batch == batchSize);
+        if (deleted > 0) {
+            log.info("Deleted {} viewer sketches older than {}", deleted, cutoff);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.backend.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fast non-cryptographic 64-bit hashing for in-memory probabilistic structures.
+ */
+public final class Hashing {
+
+    private Hashing() {
+    }
+
+    // Murmur3 finalizer, spreads every input bit over the whole 64-bit output
+    public static long mix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    public static long hash64(long a, long b) {
+        return mix64(mix64(a) + 0x9E3779B97F4A7C15L * b);
+    }
+
+    public static long hash64(CharSequence value) {
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        long h = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix64(h);
+    }
+}
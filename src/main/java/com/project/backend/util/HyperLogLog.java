@@ -0,0 +1,74 @@
+package com.project.backend.util;
+
+/**
+ * HyperLogLog cardinality sketch with 2^12 one-byte registers (4 KB, ~1.6% standard error).
+ * Sketches are merged by taking the register-wise maximum, so merging is
+ * commutative and idempotent across days and nodes. Not thread-safe.
+ */
+public class HyperLogLog {
+    public static final int PRECISION = 12;
+    public static final int REGISTER_COUNT = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTER_COUNT);
+    private static final double LINEAR_COUNTING_THRESHOLD = 2.75 * REGISTER_COUNT;
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTER_COUNT];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes.length != REGISTER_COUNT) {
+            throw new IllegalArgumentException("Expected " + REGISTER_COUNT + " registers, got " + bytes.length);
+        }
+        return new HyperLogLog(bytes.clone());
+    }
+
+    public void offer(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        // Sentinel bit caps the rank so a zero remainder can't overflow the register
+        long remainder = (hash << PRECISION) | (1L << (PRECISION - 1));
+        byte rank = (byte) (Long.numberOfLeadingZeros(remainder) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long cardinality() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        // Small-range correction (linear counting) while many registers are still empty.
+        // The switch is decided on the linear-counting estimate: the raw estimate is biased
+        // upwards in this range and would cross the threshold too early.
+        if (zeros > 0) {
+            double linear = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeros);
+            if (linear <= LINEAR_COUNTING_THRESHOLD) {
+                return Math.round(linear);
+            }
+        }
+        return Math.round(ALPHA * REGISTER_COUNT * REGISTER_COUNT / sum);
+    }
+
+    public byte[] toBytes() {
+        return registers.clone();
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.backend.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free per-minute counters for a fixed window of recent minutes.
+ * Each cell packs the epoch minute it belongs to (high 32 bits) with its
+ * count (low 32 bits), so a slot is recycled for a new minute by the same
+ * CAS that increments it and no update is ever lost to a reset.
+ * Incrementing does not allocate.
+ */
+public class MinuteRingCounter {
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final int slots;
+    private final int metrics;
+    private final AtomicLongArray cells;
+    private volatile long lastEventMinute;
+
+    public MinuteRingCounter(int slots, int metrics) {
+        this.slots = slots;
+        this.metrics = metrics;
+        this.cells = new AtomicLongArray(slots * metrics);
+    }
+
+    public void increment(long minute, int metric) {
+        int index = index(minute, metric);
+        long stamp = minute << 32;
+        long current;
+        long next;
+        do {
+            current = cells.get(index);
+            next = (current & ~COUNT_MASK) == stamp ? current + 1 : stamp | 1;
+        } while (!cells.compareAndSet(index, current, next));
+
+        if (lastEventMinute != minute) {
+            lastEventMinute = minute;
+        }
+    }
+
+    // Zero once the slot has been recycled for a newer minute
+    public long get(long minute, int metric) {
+        long value = cells.get(index(minute, metric));
+        return (value >>> 32) == minute ? value & COUNT_MASK : 0;
+    }
+
+    // Takes the minute's count and leaves zero in its place; an increment that races
+    // with it lands after the swap and is taken by the next drain
+    public long drain(long minute, int metric) {
+        int index = index(minute, metric);
+        long stamp = minute << 32;
+        while (true) {
+            long current = cells.get(index);
+            if ((current & ~COUNT_MASK) != stamp || (current & COUNT_MASK) == 0) {
+                return 0;
+            }
+            if (cells.compareAndSet(index, current, stamp)) {
+                return current & COUNT_MASK;
+            }
+        }
+    }
+
+    public long getLastEventMinute() {
+        return lastEventMinute;
+    }
+
+    public int getSlots() {
+        return slots;
+    }
+
+    private int index(long minute, int metric) {
+        return (int) (minute % slots) * metrics + metric;
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.backend.util;
+
+/**
+ * Outcome of one rate limit check, carrying what the RateLimit-* response
+ * headers need. Times are whole seconds, rounded up.
+ */
+public record RateLimitDecision(boolean allowed, long limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+
+    static RateLimitDecision allowed(long limit, long remaining, long resetNanos) {
+        return new RateLimitDecision(true, limit, remaining, toSeconds(resetNanos), 0);
+    }
+
+    static RateLimitDecision rejected(long limit, long resetNanos, long retryAfterNanos) {
+        return new RateLimitDecision(false, limit, 0, toSeconds(resetNanos), Math.max(1, toSeconds(retryAfterNanos)));
+    }
+
+    private static long toSeconds(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + 999_999_999L) / 1_000_000_000L;
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.backend.util;
+
+/**
+ * Per-key rate limit state. Implementations are lock-free and take the
+ * current {@link System#nanoTime()} so they can be driven by a fake clock.
+ */
+public interface RateLimiter {
+    RateLimitDecision tryAcquire(long nowNanos);
+
+    // Forgets consumed permits, e.g. after a successful login
+    void reset(long nowNanos);
+}
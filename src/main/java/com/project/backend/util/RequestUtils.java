@@ -0,0 +1,30 @@
+package com.project.backend.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+public final class RequestUtils {
+
+    private RequestUtils() {
+    }
+
+    // Tomcat's RemoteIpValve (server.forward-headers-strategy=native) has already replaced the
+    // remote address with X-Forwarded-For, but only for requests from server.tomcat.remoteip.internal-proxies;
+    // anyone else's header is ignored, so it can't be used to pick a fresh rate limit key
+    public static String getClientIP(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+
+    // Players fetch the file in several range requests; only the first one (from byte 0) is a new playback
+    public static boolean isPlaybackStart(HttpServletRequest request) {
+        String range = request.getHeader("Range");
+        return range == null || range.startsWith("bytes=0-");
+    }
+
+    // Identifies a viewer for unique-view counting: the user if logged in, otherwise IP + user agent
+    public static String getViewerKey(HttpServletRequest request, Long userId) {
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        return "a:" + getClientIP(request) + "|" + request.getHeader("User-Agent");
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.backend.util;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sliding window counter: allows {@code limit} requests per window, estimating
+ * the count over the last window as the current fixed window plus the previous
+ * one weighted by how much of it still overlaps. Unlike a fixed window it does
+ * not allow a double burst across a window boundary. State is an immutable
+ * snapshot swapped by CAS.
+ */
+public class SlidingWindowLimiter implements RateLimiter {
+    private final long limit;
+    private final long windowNanos;
+    private final AtomicReference<Window> state;
+
+    private record Window(long start, long previous, long current) {
+    }
+
+    public SlidingWindowLimiter(long limit, long windowNanos, long nowNanos) {
+        if (limit <= 0 || windowNanos <= 0) {
+            throw new IllegalArgumentException("Sliding window parameters must be positive");
+        }
+        this.limit = limit;
+        this.windowNanos = windowNanos;
+        this.state = new AtomicReference<>(new Window(nowNanos, 0, 0));
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(long nowNanos) {
+        while (true) {
+            Window observed = state.get();
+            Window window = roll(observed, nowNanos);
+            long elapsed = nowNanos - window.start();
+            long untilRoll = windowNanos - elapsed;
+            double estimated = window.current() + window.previous() * ((double) untilRoll / windowNanos);
+
+            if (estimated + 1 > limit) {
+                return RateLimitDecision.rejected(limit, untilRoll, retryAfter(window, elapsed));
+            }
+
+            Window next = new Window(window.start(), window.previous(), window.current() + 1);
+            if (state.compareAndSet(observed, next)) {
+                return RateLimitDecision.allowed(limit, (long) (limit - estimated - 1), untilRoll);
+            }
+        }
+    }
+
+    @Override
+    public void reset(long nowNanos) {
+        state.set(new Window(nowNanos, 0, 0));
+    }
+
+    private Window roll(Window window, long nowNanos) {
+        long elapsed = nowNanos - window.start();
+        if (elapsed < windowNanos) {
+            return window;
+        }
+        long windows = elapsed / windowNanos;
+        long start = window.start() + windows * windowNanos;
+        return windows == 1 ? new Window(start, window.current(), 0) : new Window(start, 0, 0);
+    }
+
+    // Time until the weighted previous window has decayed enough to admit one more request
+    private long retryAfter(Window window, long elapsed) {
+        long allowedFromPrevious = limit - window.current() - 1;
+        if (allowedFromPrevious < 0 || window.previous() == 0) {
+            return windowNanos - elapsed;
+        }
+        long overlapNeeded = (long) (windowNanos * ((double) allowedFromPrevious / window.previous()));
+        return Math.max(1, windowNanos - overlapNeeded - elapsed);
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.backend.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket holding up to {@code capacity} tokens, refilled continuously at
+ * {@code refillTokens} per {@code refillPeriodNanos}. Implemented as GCRA: the
+ * whole state is one "theoretical arrival time", so a permit is a single CAS
+ * and no background refill is needed.
+ */
+public class TokenBucketLimiter implements RateLimiter {
+    private final long capacity;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    // The time at which the bucket would be full again; in the past means full
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucketLimiter(long capacity, long refillTokens, long refillPeriodNanos, long nowNanos) {
+        if (capacity <= 0 || refillTokens <= 0 || refillPeriodNanos <= 0) {
+            throw new IllegalArgumentException("Token bucket parameters must be positive");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1, refillPeriodNanos / refillTokens);
+        this.burstNanos = capacity * emissionIntervalNanos;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            // nanoTime values may only be compared through their difference
+            long base = tat - nowNanos > 0 ? tat : nowNanos;
+            long next = base + emissionIntervalNanos;
+            long untilFull = next - nowNanos;
+
+            if (untilFull > burstNanos) {
+                return RateLimitDecision.rejected(capacity, base - nowNanos, untilFull - burstNanos);
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return RateLimitDecision.allowed(capacity, (burstNanos - untilFull) / emissionIntervalNanos, untilFull);
+            }
+        }
+    }
+
+    @Override
+    public void reset(long nowNanos) {
+        theoreticalArrival.updateAndGet(tat -> tat - nowNanos > 0 ? nowNanos : tat);
+    }
+}
@@ -0,0 +1,92 @@
+-- Baseline: the schema Hibernate generated while ddl-auto=update owned it, before
+-- Flyway took over. Existing databases are baselined at this version and skip it,
+-- so anything added since goes into V2 and later, never here.
+
+create table addresses (
+    id bigserial not null,
+    city varchar(255),
+    country varchar(255),
+    postal_code varchar(255),
+    street varchar(255),
+    primary key (id)
+);
+
+create table likes (
+    created_at timestamp(6) not null,
+    id bigserial not null,
+    user_id bigint not null,
+    video_id bigint not null,
+    primary key (id),
+    unique (user_id, video_id)
+);
+
+create table tags (
+    id bigserial not null,
+    name varchar(255) not null unique,
+    primary key (id)
+);
+
+create table users (
+    activated boolean not null,
+    address_id bigint,
+    created_at timestamp(6),
+    id bigserial not null,
+    activation_token varchar(255) unique,
+    email varchar(255) not null unique,
+    first_name varchar(255),
+    last_name varchar(255),
+    password varchar(255) not null,
+    username varchar(255) not null unique,
+    primary key (id)
+);
+
+create table video_tags (
+    tag_id bigint not null,
+    video_id bigint not null,
+    primary key (tag_id, video_id)
+);
+
+create table videos (
+    like_count integer not null,
+    view_count integer not null,
+    created_at timestamp(6) not null,
+    file_size bigint not null,
+    id bigserial not null,
+    user_id bigint not null,
+    description text,
+    location varchar(255),
+    thumbnail_path varchar(255) not null,
+    title varchar(255) not null,
+    video_path varchar(255) not null,
+    primary key (id)
+);
+
+alter table if exists likes
+   add constraint FKnvx9seeqqyy71bij291pwiwrg
+   foreign key (user_id)
+   references users;
+
+alter table if exists likes
+   add constraint FKmxex2suax1ftkraqiqedi0ihr
+   foreign key (video_id)
+   references videos;
+
+alter table if exists users
+   add constraint FKe8vydtk7hf0y16bfm558sywbb
+   foreign key (address_id)
+   references addresses;
+
+alter table if exists video_tags
+   add constraint FKqfnpe46owtsy6c6t5my7exjmq
+   foreign key (tag_id)
+   references tags;
+
+alter table if exists video_tags
+   add constraint FKpr6ks7ia3ilx9ec2mmwb82lb6
+   foreign key (video_id)
+   references videos;
+
+alter table if exists videos
+   add constraint FK75696octon297ywni28sk19ek
+   foreign key (user_id)
+   references users;
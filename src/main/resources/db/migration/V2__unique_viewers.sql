@@ -0,0 +1,19 @@
+-- HyperLogLog sketches per video and day (UniqueViewerService); the all-time
+-- sketch is stored under day 1970-01-01.
+
+create table video_viewer_sketches (
+    day date not null,
+    id bigserial not null,
+    video_id bigint not null,
+    registers bytea not null,
+    primary key (id),
+    unique (video_id, day)
+);
+
+alter table if exists video_viewer_sketches
+   add constraint FK1ndkjpaavyqkwf4t0v4qlty6w
+   foreign key (video_id)
+   references videos;
+
+-- Nullable with no default: a catalog-only change, no table rewrite
+alter table videos add column unique_viewers bigint;
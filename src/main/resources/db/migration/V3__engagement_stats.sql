@@ -0,0 +1,18 @@
+-- Hourly and daily view/like buckets rolled up by EngagementFlushJob.
+
+create table video_stat_buckets (
+    bucket_start timestamp(6) not null,
+    id bigserial not null,
+    likes bigint not null,
+    unlikes bigint not null,
+    video_id bigint not null,
+    views bigint not null,
+    granularity varchar(10) not null check (granularity in ('MINUTE','HOUR','DAY')),
+    primary key (id),
+    unique (video_id, granularity, bucket_start)
+);
+
+alter table if exists video_stat_buckets
+   add constraint FKgmidenepmt8mgleuihclfp1nw
+   foreign key (video_id)
+   references videos;
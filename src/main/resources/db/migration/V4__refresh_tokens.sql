@@ -0,0 +1,21 @@
+-- Rotating refresh tokens; only a hash of each token is stored.
+
+create table refresh_tokens (
+    revoked boolean not null,
+    created_at timestamp(6) not null,
+    expires_at timestamp(6) not null,
+    id bigserial not null,
+    used_at timestamp(6),
+    user_id bigint not null,
+    session_id varchar(36) not null,
+    token_hash varchar(64) not null unique,
+    primary key (id)
+);
+
+create index idx_refresh_tokens_session
+   on refresh_tokens (session_id);
+
+alter table if exists refresh_tokens
+   add constraint FK1lih5y2npsf8u5o3vhdb9y0os
+   foreign key (user_id)
+   references users;
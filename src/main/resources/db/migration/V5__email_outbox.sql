@@ -0,0 +1,19 @@
+-- Transactional outbox for emails, delivered by EmailOutboxDispatcher.
+
+create table email_outbox (
+    attempts integer not null,
+    created_at timestamp(6) not null,
+    id bigserial not null,
+    next_attempt_at timestamp(6) not null,
+    sent_at timestamp(6),
+    status varchar(10) not null check (status in ('PENDING','SENT','FAILED')),
+    last_error varchar(1000),
+    body text not null,
+    idempotency_key varchar(255) not null unique,
+    recipient varchar(255) not null,
+    subject varchar(255) not null,
+    primary key (id)
+);
+
+create index idx_email_outbox_due
+   on email_outbox (status, next_attempt_at);
@@ -0,0 +1,24 @@
+-- Indexes for the feed, per-user listings and like counts. CONCURRENTLY keeps the
+-- tables writable while an index builds; it cannot run inside a transaction, see
+-- the .conf file next to this script. A build that fails leaves an INVALID index
+-- behind: drop it before retrying, IF NOT EXISTS would otherwise skip it.
+
+-- findAllByOrderByCreatedAtDesc
+create index concurrently if not exists idx_videos_created_at
+    on videos (created_at desc);
+
+-- findByUserIdOrderByCreatedAtDesc, and the videos.user_id foreign key
+create index concurrently if not exists idx_videos_user_created_at
+    on videos (user_id, created_at desc);
+
+-- countByVideoId and deletes of a video; (user_id, video_id) is already covered by the unique key
+create index concurrently if not exists idx_likes_video
+    on likes (video_id);
+
+-- The primary key is (tag_id, video_id), which serves lookups by tag; loading a video's tags needs video_id first
+create index concurrently if not exists idx_video_tags_video
+    on video_tags (video_id, tag_id);
+
+-- Hourly purge of expired refresh tokens
+create index concurrently if not exists idx_refresh_tokens_expires_at
+    on refresh_tokens (expires_at);
@@ -0,0 +1,9 @@
+-- The upload reaper asks which of the files it found on disk are still referenced
+-- (UploadReaperJob, videoPath/thumbnailPath IN (...)). Built CONCURRENTLY like V6,
+-- see the .conf file next to this script.
+
+create index concurrently if not exists idx_videos_video_path
+    on videos (video_path);
+
+create index concurrently if not exists idx_videos_thumbnail_path
+    on videos (thumbnail_path);
@@ -0,0 +1,46 @@
+-- Comments with one level of replies. Threads are paged with keysets, so each page
+-- is a range scan on one of the partial indexes below, however many comments a
+-- video has. The table is new, so the indexes are built in the same transaction.
+
+create table comments (
+    id bigserial not null,
+    video_id bigint not null,
+    user_id bigint not null,
+    parent_id bigint,
+    content text not null,
+    reply_count integer not null,
+    created_at timestamp(6) not null,
+    primary key (id)
+);
+
+alter table if exists comments
+   add constraint fk_comments_video
+   foreign key (video_id)
+   references videos
+   on delete cascade;
+
+alter table if exists comments
+   add constraint fk_comments_user
+   foreign key (user_id)
+   references users;
+
+alter table if exists comments
+   add constraint fk_comments_parent
+   foreign key (parent_id)
+   references comments
+   on delete cascade;
+
+-- Newest threads first (ids grow with created_at)
+create index idx_comments_video_recent
+    on comments (video_id, id desc) where parent_id is null;
+
+-- Top threads: most replies first
+create index idx_comments_video_top
+    on comments (video_id, reply_count desc, id desc) where parent_id is null;
+
+-- Replies of a thread, oldest first
+create index idx_comments_parent
+    on comments (parent_id, id);
+
+-- Constant default: a catalog-only change on Postgres 11+, no table rewrite
+alter table videos add column comment_count integer not null default 0;
@@ -0,0 +1,180 @@
+package com.project.backend.config;
+
+import com.project.backend.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routing against two local H2 databases, each holding a marker row that
+ * names it. The replica is opened with IFEXISTS, so shutting it down makes it
+ * unreachable until the test recreates it.
+ */
+@SpringBootTest(classes = ReplicaRoutingDataSourceTest.RoutingTestConfig.class, properties = {
+		"spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=none",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+		"spring.jpa.properties.hibernate.cache.use_query_cache=false",
+		"app.datasource.routing.enabled=true",
+		"app.datasource.routing.replicas[0].url=jdbc:h2:mem:routing-replica;IFEXISTS=TRUE",
+		"app.datasource.routing.stickiness-ms=300",
+		"app.datasource.routing.replica-connection-timeout-ms=250"
+})
+class ReplicaRoutingDataSourceTest {
+	private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+	@Configuration
+	@ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+			TransactionAutoConfiguration.class, JdbcTemplateAutoConfiguration.class})
+	@Import({ReplicaRoutingConfig.class, ReplicaRoutingProperties.class})
+	static class RoutingTestConfig {
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@BeforeAll
+	static void createReplica() throws SQLException {
+		createMarkerDatabase(REPLICA_URL, "replica");
+	}
+
+	@BeforeEach
+	void createPrimaryMarker() {
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS db_marker (name VARCHAR(20))");
+		jdbcTemplate.execute("DELETE FROM db_marker");
+		jdbcTemplate.execute("INSERT INTO db_marker VALUES ('primary')");
+	}
+
+	@AfterEach
+	void clearUser() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+		assertEquals("replica", readInTransaction(true));
+		assertEquals("primary", readInTransaction(false));
+		// No transaction: auto-commit access may write, so it stays on the primary
+		assertEquals("primary", marker());
+	}
+
+	@Test
+	void userReadsOwnWritesFromPrimaryUntilStickinessExpires() throws InterruptedException {
+		signIn(42L);
+		readInTransaction(false);
+		assertEquals("primary", readInTransaction(true));
+
+		signIn(7L);
+		assertEquals("replica", readInTransaction(true));
+
+		signIn(42L);
+		Thread.sleep(400);
+		assertEquals("replica", readInTransaction(true));
+	}
+
+	@Test
+	void readsFallBackToPrimaryWhileReplicaIsDown() throws SQLException {
+		try (Connection connection = DriverManager.getConnection(REPLICA_URL, "sa", "");
+			 Statement statement = connection.createStatement()) {
+			statement.execute("SHUTDOWN");
+		}
+		routingDataSource.checkReplicas();
+		assertFalse(routingDataSource.getReplicas().get(0).isHealthy());
+		assertEquals("primary", readInTransaction(true));
+
+		createMarkerDatabase(REPLICA_URL, "replica");
+		routingDataSource.checkReplicas();
+		assertTrue(routingDataSource.getReplicas().get(0).isHealthy());
+		assertEquals("replica", readInTransaction(true));
+	}
+
+	@Test
+	void sessionOpenAcrossTransactionsRoutesEachTransaction() {
+		// Same setup as open-in-view: one EntityManager for the request, several transactions
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+		try {
+			assertEquals("replica", nativeMarker(entityManager, true));
+			assertEquals("primary", nativeMarker(entityManager, false));
+			assertEquals("replica", nativeMarker(entityManager, true));
+		} finally {
+			TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+			entityManager.close();
+		}
+	}
+
+	private String readInTransaction(boolean readOnly) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(readOnly);
+		return transaction.execute(status -> marker());
+	}
+
+	private String nativeMarker(EntityManager entityManager, boolean readOnly) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.setReadOnly(readOnly);
+		return transaction.execute(status ->
+				(String) entityManager.createNativeQuery("SELECT name FROM db_marker").getSingleResult());
+	}
+
+	private String marker() {
+		return jdbcTemplate.queryForObject("SELECT name FROM db_marker", String.class);
+	}
+
+	private static void signIn(Long userId) {
+		User user = new User();
+		user.setId(userId);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(user, null, List.of()));
+	}
+
+	private static void createMarkerDatabase(String url, String name) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(url, "sa", "");
+			 Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE IF NOT EXISTS db_marker (name VARCHAR(20))");
+			statement.execute("DELETE FROM db_marker");
+			statement.execute("INSERT INTO db_marker VALUES ('" + name + "')");
+		}
+	}
+}
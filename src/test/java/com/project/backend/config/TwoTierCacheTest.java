@@ -0,0 +1,198 @@
+package com.project.backend.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two cache managers over one in-memory shared store behave like two nodes
+ * sharing a Redis server.
+ */
+class TwoTierCacheTest {
+
+	private TwoTierCacheProperties properties;
+	private SharedCacheStore store;
+	private TwoTierCache nodeA;
+	private TwoTierCache nodeB;
+
+	@BeforeEach
+	void setUp() {
+		properties = new TwoTierCacheProperties();
+		store = new InMemorySharedCacheStore();
+		nodeA = node(store).getCache("thumbnails");
+		nodeB = node(store).getCache("thumbnails");
+	}
+
+	@Test
+	void otherNodeReadsThroughSharedTier() {
+		nodeA.put(7L, "thumbnails/a.jpg");
+
+		assertEquals("thumbnails/a.jpg", nodeB.get(7L, String.class));
+		assertEquals(1, nodeB.getSharedHits());
+		assertNotNull(nodeB.getLocalCache().getIfPresent("7"));
+	}
+
+	@Test
+	void writeOnOneNodeDropsOtherNodesLocalCopy() {
+		nodeA.put(7L, "old.jpg");
+		assertEquals("old.jpg", nodeB.get(7L, String.class));
+
+		nodeA.put(7L, "new.jpg");
+		assertNull(nodeB.getLocalCache().getIfPresent("7"));
+		assertEquals("new.jpg", nodeB.get(7L, String.class));
+
+		nodeA.evict(7L);
+		assertNull(nodeB.get(7L));
+
+		nodeA.put(8L, "other.jpg");
+		assertEquals("other.jpg", nodeB.get(8L, String.class));
+		nodeB.clear();
+		assertNull(nodeA.get(8L));
+	}
+
+	@Test
+	void concurrentMissesOnSeveralNodesLoadOnce() throws Exception {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(16);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				TwoTierCache node = i % 2 == 0 ? nodeA : nodeB;
+				results.add(pool.submit(() -> {
+					start.await();
+					return node.get(7L, () -> {
+						loads.incrementAndGet();
+						Thread.sleep(200);
+						return "loaded.jpg";
+					});
+				}));
+			}
+			start.countDown();
+			for (Future<String> result : results) {
+				assertEquals("loaded.jpg", result.get());
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void nullValuesAreCachedInBothTiers() {
+		AtomicInteger loads = new AtomicInteger();
+		assertNull(nodeA.get(7L, () -> {
+			loads.incrementAndGet();
+			return null;
+		}));
+		assertNull(nodeB.get(7L, () -> {
+			loads.incrementAndGet();
+			return "unexpected";
+		}));
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	void sharedEntriesExpire() throws InterruptedException {
+		TwoTierCacheProperties.Spec spec = new TwoTierCacheProperties.Spec();
+		spec.setTtlMs(100);
+		spec.setLocalTtlMs(100L);
+		properties.getCaches().put("short", spec);
+		TwoTierCache a = node(store).getCache("short");
+		TwoTierCache b = node(store).getCache("short");
+
+		a.put(1L, "value");
+		assertEquals("value", b.get(1L, String.class));
+		Thread.sleep(150);
+		assertNull(a.get(1L));
+		assertNull(b.get(1L));
+	}
+
+	@Test
+	void failingSharedStoreFallsBackToLocalTier() {
+		TwoTierCache cache = node(new FailingStore()).getCache("thumbnails");
+		AtomicInteger loads = new AtomicInteger();
+
+		assertEquals("a.jpg", cache.get(7L, () -> {
+			loads.incrementAndGet();
+			return "a.jpg";
+		}));
+		assertEquals("a.jpg", cache.get(7L, () -> {
+			loads.incrementAndGet();
+			return "b.jpg";
+		}));
+		cache.put(8L, "c.jpg");
+		assertEquals("c.jpg", cache.get(8L, String.class));
+
+		assertEquals(1, loads.get());
+		assertTrue(cache.getSharedErrors() > 0);
+	}
+
+	@Test
+	void loaderFailureIsNotCached() {
+		Cache.ValueRetrievalException error = assertThrows(Cache.ValueRetrievalException.class,
+				() -> nodeA.get(7L, () -> {
+					throw new IllegalStateException("database down");
+				}));
+		assertInstanceOf(IllegalStateException.class, error.getCause());
+		assertNull(nodeA.get(7L));
+	}
+
+	private TwoTierCacheManager node(SharedCacheStore sharedStore) {
+		return new TwoTierCacheManager(properties, sharedStore,
+				new CacheInvalidationBus(sharedStore, properties.getKeyPrefix()));
+	}
+
+	private static class FailingStore implements SharedCacheStore {
+		@Override
+		public byte[] get(String key) {
+			throw new IllegalStateException("connection refused");
+		}
+
+		@Override
+		public void put(String key, byte[] value, Duration ttl) {
+			throw new IllegalStateException("connection refused");
+		}
+
+		@Override
+		public void delete(String key) {
+			throw new IllegalStateException("connection refused");
+		}
+
+		@Override
+		public void deleteByPrefix(String prefix) {
+			throw new IllegalStateException("connection refused");
+		}
+
+		@Override
+		public boolean tryLock(String key, String owner, Duration lease) {
+			throw new IllegalStateException("connection refused");
+		}
+
+		@Override
+		public void unlock(String key, String owner) {
+			throw new IllegalStateException("connection refused");
+		}
+
+		@Override
+		public void publish(String channel, String message) {
+			throw new IllegalStateException("connection refused");
+		}
+
+		@Override
+		public void subscribe(String channel, Consumer<String> listener) {
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package com.project.backend.repository;
+
+import com.project.backend.model.User;
+import com.project.backend.model.Video;
+import com.project.backend.service.LikeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class VideoRepositoryReconcileTest {
+
+	@Autowired
+	private VideoRepository videoRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private LikeService likeService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void toggleDuringReconciliationKeepsCountInStep() throws Exception {
+		User user = userRepository.save(newUser());
+		Video video = videoRepository.save(newVideo(user));
+		Long videoId = video.getId();
+		// Drifted: like_count says 5 while likes has no rows, so reconciliation has work to do
+		jdbcTemplate.update("UPDATE videos SET like_count = 5 WHERE id = ?", videoId);
+
+		// The toggle has written the like and bumped like_count but not committed yet
+		CountDownLatch toggled = new CountDownLatch(1);
+		CountDownLatch commit = new CountDownLatch(1);
+		CompletableFuture<Void> toggle = CompletableFuture.runAsync(() ->
+				new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+					likeService.toggleLike(videoId, user);
+					toggled.countDown();
+					await(commit);
+				}));
+		assertTrue(toggled.await(10, TimeUnit.SECONDS));
+
+		CompletableFuture<Integer> reconcile = CompletableFuture.supplyAsync(() ->
+				videoRepository.reconcileLikeCounts(videoId, videoId));
+		waitUntilBlockedOnLock();
+		commit.countDown();
+		toggle.get(10, TimeUnit.SECONDS);
+		reconcile.get(10, TimeUnit.SECONDS);
+
+		assertEquals(1, jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM likes WHERE video_id = ?", Integer.class, videoId));
+		assertEquals(1, jdbcTemplate.queryForObject(
+				"SELECT like_count FROM videos WHERE id = ?", Integer.class, videoId));
+	}
+
+	private void waitUntilBlockedOnLock() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_stat_activity " +
+				"WHERE datname = current_database() AND wait_event_type = 'Lock'", Integer.class) == 0) {
+			assertTrue(System.nanoTime() < deadline, "reconciliation never waited for the toggle");
+			Thread.sleep(10);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static User newUser() {
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		User user = new User();
+		user.setEmail(suffix + "@reconcile.test");
+		user.setUsername("reconcile" + suffix);
+		user.setPassword("password1");
+		user.setFirstName("Reconcile");
+		user.setLastName("Test");
+		user.setActivated(true);
+		return user;
+	}
+
+	private static Video newVideo(User user) {
+		Video video = new Video();
+		video.setTitle("Reconcile");
+		video.setVideoPath("videos/reconcile.mp4");
+		video.setThumbnailPath("thumbnails/reconcile.jpg");
+		video.setFileSize(1L);
+		video.setUser(user);
+		return video;
+	}
+}
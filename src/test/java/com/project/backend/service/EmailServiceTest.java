@@ -0,0 +1,100 @@
+package com.project.backend.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.project.backend.model.EmailOutbox;
+import com.project.backend.model.EmailStatus;
+import com.project.backend.repository.EmailOutboxRepository;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class EmailServiceTest {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private EmailService emailService;
+
+	@BeforeEach
+	void setUp() {
+		emailService = serviceFor(ServerSetupTest.SMTP.getPort());
+	}
+
+	@Test
+	void sendsWholeBatch() throws Exception {
+		List<EmailOutbox> batch = List.of(email(1L, "a@test.com"), email(2L, "b@test.com"), email(3L, "c@test.com"));
+
+		Map<Long, String> failures = emailService.sendBatch(batch);
+
+		assertTrue(failures.isEmpty());
+		MimeMessage[] received = greenMail.getReceivedMessages();
+		assertEquals(3, received.length);
+		assertEquals("Subject 1", received[0].getSubject());
+	}
+
+	@Test
+	void smtpOutageFailsBatchAndSchedulesRetry() {
+		EmailService unreachable = serviceFor(1);
+		EmailOutbox first = email(1L, "a@test.com");
+		EmailOutbox last = email(2L, "b@test.com");
+		first.setAttempts(1);
+		last.setAttempts(8);
+		List<EmailOutbox> batch = List.of(first, last);
+
+		Map<Long, String> failures = unreachable.sendBatch(batch);
+		unreachable.recordResults(batch, failures);
+
+		assertEquals(2, failures.size());
+		assertEquals(EmailStatus.PENDING, first.getStatus());
+		assertTrue(first.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(20)));
+		assertNotNull(first.getLastError());
+		assertEquals(EmailStatus.FAILED, last.getStatus());
+	}
+
+	@Test
+	void successfulSendIsMarkedSent() {
+		EmailOutbox email = email(1L, "a@test.com");
+		email.setAttempts(1);
+
+		emailService.recordResults(List.of(email), emailService.sendBatch(List.of(email)));
+
+		assertEquals(EmailStatus.SENT, email.getStatus());
+		assertNotNull(email.getSentAt());
+	}
+
+	@Test
+	void backoffDoublesUpToMaximum() {
+		assertEquals(30_000, emailService.backoffMs(1));
+		assertEquals(60_000, emailService.backoffMs(2));
+		assertEquals(3_600_000, emailService.backoffMs(20));
+	}
+
+	private static EmailService serviceFor(int port) {
+		JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("localhost");
+		mailSender.setPort(port);
+		return new EmailService(mailSender, mock(EmailOutboxRepository.class), "http://localhost:3000",
+				50, 8, 30_000, 3_600_000, 300_000);
+	}
+
+	private static EmailOutbox email(Long id, String recipient) {
+		EmailOutbox email = new EmailOutbox();
+		email.setId(id);
+		email.setIdempotencyKey("test:" + id);
+		email.setRecipient(recipient);
+		email.setSubject("Subject " + id);
+		email.setBody("Body " + id);
+		email.setNextAttemptAt(LocalDateTime.now());
+		return email;
+	}
+}
@@ -0,0 +1,143 @@
+package com.project.backend.service;
+
+import com.project.backend.repository.VideoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UploadReaperJobTest {
+
+	@TempDir
+	Path uploadDir;
+
+	private FileStorageService fileStorageService;
+	private VideoRepository videoRepository;
+	private UploadReaperJob reaper;
+
+	@BeforeEach
+	void setUp() {
+		fileStorageService = new FileStorageService();
+		ReflectionTestUtils.setField(fileStorageService, "uploadDir", uploadDir.toString());
+		videoRepository = mock(VideoRepository.class);
+		// Only these paths have rows; "committed" crashed after the insert, before promote()
+		when(videoRepository.findVideoPathsIn(any())).thenAnswer(invocation ->
+				referenced(invocation.getArgument(0), "videos/kept.mp4", "videos/committed.mp4"));
+		when(videoRepository.findThumbnailPathsIn(any())).thenAnswer(invocation ->
+				referenced(invocation.getArgument(0), "thumbnails/kept.jpg", "thumbnails/committed.jpg"));
+		reaper = new UploadReaperJob(fileStorageService, videoRepository, 3_600_000, 2, 2);
+	}
+
+	@Test
+	void stagedFileOnlyAppearsAfterPromote() throws Exception {
+		FileStorageService.StagedFile staged = fileStorageService.stageFile(
+				new MockMultipartFile("video", "clip.mp4", "video/mp4", new byte[]{1, 2, 3}), "videos");
+
+		assertTrue(Files.exists(staged.stagedPath()));
+		assertFalse(Files.exists(uploadDir.resolve(staged.path())));
+
+		fileStorageService.promote(staged);
+
+		assertFalse(Files.exists(staged.stagedPath()));
+		assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(uploadDir.resolve(staged.path())));
+	}
+
+	@Test
+	void deletesOldStagedAndUnreferencedFiles() throws Exception {
+		Path abandoned = file(".staging/abandoned.mp4", true);
+		Path uploading = file(".staging/uploading.mp4", false);
+		Path kept = file("videos/kept.mp4", true);
+		Path orphan = file("videos/orphan.mp4", true);
+		Path fresh = file("videos/fresh.mp4", false);
+		Path keptThumbnail = file("thumbnails/kept.jpg", true);
+		Path orphanThumbnail = file("thumbnails/orphan.jpg", true);
+		Path nested = file("videos/2026/10/orphan.mp4", true);
+		Path unrelated = file("exports/report.ndjson", true);
+
+		reaper.reap(Instant.now().minusSeconds(3600));
+
+		assertFalse(Files.exists(abandoned));
+		assertFalse(Files.exists(orphan));
+		assertFalse(Files.exists(orphanThumbnail));
+		assertFalse(Files.exists(nested));
+		assertTrue(Files.exists(uploading));
+		assertTrue(Files.exists(kept));
+		assertTrue(Files.exists(fresh));
+		assertTrue(Files.exists(keptThumbnail));
+		assertTrue(Files.exists(unrelated));
+		assertEquals(1, reaper.getStagingDeleted());
+		assertEquals(3, reaper.getUnreferencedDeleted());
+	}
+
+	@Test
+	void promotesStagedFilesOfCommittedUploads() throws Exception {
+		Path video = file(".staging/committed.mp4", true);
+		Path thumbnail = file(".staging/committed.jpg", true);
+
+		reaper.reap(Instant.now().minusSeconds(3600));
+
+		assertFalse(Files.exists(video));
+		assertFalse(Files.exists(thumbnail));
+		assertTrue(Files.exists(uploadDir.resolve("videos/committed.mp4")));
+		assertTrue(Files.exists(uploadDir.resolve("thumbnails/committed.jpg")));
+		assertEquals(2, reaper.getStagingPromoted());
+		assertEquals(0, reaper.getStagingDeleted());
+	}
+
+	@Test
+	void walksLargeDirectoriesInChunks() throws Exception {
+		for (int i = 0; i < 3000; i++) {
+			file("videos/orphan-" + i + ".mp4", true);
+		}
+		file("videos/kept.mp4", true);
+
+		reaper.reap(Instant.now().minusSeconds(3600));
+
+		assertEquals(3000, reaper.getUnreferencedDeleted());
+		try (var remaining = Files.list(uploadDir.resolve("videos"))) {
+			assertEquals(List.of(uploadDir.resolve("videos/kept.mp4")), remaining.toList());
+		}
+	}
+
+	@Test
+	void databaseErrorDeletesNothing() throws Exception {
+		Path orphan = file("videos/orphan.mp4", true);
+		Path abandoned = file(".staging/abandoned.mp4", true);
+		Path orphanThumbnail = file("thumbnails/orphan.jpg", true);
+		doThrow(new IllegalStateException("database down")).when(videoRepository).findThumbnailPathsIn(any());
+
+		reaper.reap();
+
+		assertTrue(Files.exists(orphan));
+		assertTrue(Files.exists(abandoned));
+		assertTrue(Files.exists(orphanThumbnail));
+	}
+
+	private Path file(String path, boolean old) throws Exception {
+		Path file = uploadDir.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.write(file, new byte[]{0});
+		if (old) {
+			Files.setLastModifiedTime(file, FileTime.from(Instant.now().minusSeconds(7200)));
+		}
+		return file;
+	}
+
+	private static List<String> referenced(Collection<String> paths, String... existing) {
+		return paths.stream().filter(List.of(existing)::contains).toList();
+	}
+}
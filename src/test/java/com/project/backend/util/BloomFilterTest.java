@@ -0,0 +1,58 @@
+package com.project.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+	private static final int INSERTIONS = 100_000;
+	private static final int PROBES = 200_000;
+
+	@Test
+	void neverReportsAnInsertedKeyAsAbsent() {
+		BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+		for (long userId = 1; userId <= 1_000; userId++) {
+			for (long videoId = 1; videoId <= 100; videoId++) {
+				filter.put(Hashing.hash64(userId, videoId));
+			}
+		}
+
+		for (long userId = 1; userId <= 1_000; userId++) {
+			for (long videoId = 1; videoId <= 100; videoId++) {
+				assertTrue(filter.mightContain(Hashing.hash64(userId, videoId)), userId + ":" + videoId);
+			}
+		}
+	}
+
+	@Test
+	void emptyFilterContainsNothing() {
+		BloomFilter filter = new BloomFilter(INSERTIONS, 0.01);
+
+		for (long key = 0; key < 1_000; key++) {
+			assertFalse(filter.mightContain(Hashing.mix64(key)));
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(doubles = {0.05, 0.01, 0.001})
+	void falsePositiveRateAtCapacityIsNearTheConfiguredRate(double configuredRate) {
+		BloomFilter filter = new BloomFilter(INSERTIONS, configuredRate);
+		for (long key = 0; key < INSERTIONS; key++) {
+			filter.put(Hashing.mix64(key));
+		}
+
+		int falsePositives = 0;
+		for (long key = INSERTIONS; key < INSERTIONS + PROBES; key++) {
+			if (filter.mightContain(Hashing.mix64(key))) {
+				falsePositives++;
+			}
+		}
+
+		double rate = (double) falsePositives / PROBES;
+		assertTrue(rate <= configuredRate * 1.5, "false positive rate " + rate);
+		assertTrue(rate >= configuredRate * 0.5, "false positive rate " + rate);
+	}
+}
@@ -0,0 +1,51 @@
+package com.project.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashingTest {
+
+	@Test
+	void mix64HasNoCollisionsOnSequentialKeys() {
+		Set<Long> seen = new HashSet<>();
+		for (long key = 0; key < 100_000; key++) {
+			assertTrue(seen.add(Hashing.mix64(key)));
+		}
+	}
+
+	@Test
+	void pairHashDependsOnOrder() {
+		assertNotEquals(Hashing.hash64(1, 2), Hashing.hash64(2, 1));
+		assertEquals(Hashing.hash64(1, 2), Hashing.hash64(1, 2));
+	}
+
+	@Test
+	void stringHashIsStable() {
+		assertEquals(Hashing.hash64("viewer-1"), Hashing.hash64(new StringBuilder("viewer-1")));
+		assertNotEquals(Hashing.hash64("viewer-1"), Hashing.hash64("viewer-2"));
+	}
+
+	// Sequential ids (user ids, video ids) must still spread evenly over the low and high bits
+	// that the Bloom filter, the hash set and HyperLogLog index with
+	@Test
+	void sequentialKeysSpreadEvenlyOverBuckets() {
+		int buckets = 256;
+		int keys = buckets * 1_000;
+		int[] low = new int[buckets];
+		int[] high = new int[buckets];
+		for (long userId = 0; userId < keys; userId++) {
+			long hash = Hashing.hash64(userId, 7);
+			low[(int) (hash & (buckets - 1))]++;
+			high[(int) (hash >>> 56)]++;
+		}
+
+		for (int bucket = 0; bucket < buckets; bucket++) {
+			assertEquals(1_000, low[bucket], 150, "low bucket " + bucket);
+			assertEquals(1_000, high[bucket], 150, "high bucket " + bucket);
+		}
+	}
+}
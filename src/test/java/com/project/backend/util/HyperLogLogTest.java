@@ -0,0 +1,110 @@
+package com.project.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+	// Standard error of a 4096-register sketch is 1.04 / sqrt(4096), about 1.6%
+	private static final double STANDARD_ERROR = 1.04 / Math.sqrt(HyperLogLog.REGISTER_COUNT);
+	private static final int TRIALS = 20;
+
+	@Test
+	void emptySketchEstimatesZero() {
+		assertEquals(0, new HyperLogLog().cardinality());
+	}
+
+	// Sizes up to 2.5 * 4096 go through the small-range (linear counting) correction
+	@ParameterizedTest
+	@ValueSource(ints = {10, 100, 1_000, 5_000, 10_000, 20_000, 100_000, 1_000_000})
+	void estimateIsWithinTheStandardError(int viewers) {
+		double totalError = 0;
+		for (int trial = 0; trial < TRIALS; trial++) {
+			HyperLogLog sketch = new HyperLogLog();
+			for (int viewer = 0; viewer < viewers; viewer++) {
+				sketch.offer(Hashing.hash64(viewer, trial));
+			}
+			// Repeated views must not change the estimate
+			for (int viewer = 0; viewer < viewers; viewer += 3) {
+				sketch.offer(Hashing.hash64(viewer, trial));
+			}
+
+			long estimate = sketch.cardinality();
+			double error = Math.abs(estimate - viewers) / (double) viewers;
+			assertTrue(error <= 3 * STANDARD_ERROR, "trial " + trial + " estimated " + estimate + " for " + viewers);
+			totalError += error;
+		}
+
+		double meanError = totalError / TRIALS;
+		assertTrue(meanError <= 0.02, "mean relative error " + meanError + " for " + viewers);
+	}
+
+	@Test
+	void mergeEqualsTheSketchOfTheUnion() {
+		HyperLogLog monday = viewers(0, 60_000);
+		HyperLogLog tuesday = viewers(40_000, 100_000);
+
+		monday.merge(tuesday);
+
+		HyperLogLog union = viewers(0, 100_000);
+		assertArrayEquals(union.toBytes(), monday.toBytes());
+		assertEquals(union.cardinality(), monday.cardinality());
+	}
+
+	@Test
+	void roundTripsThroughTheStoredRegisters() {
+		HyperLogLog sketch = viewers(0, 50_000);
+
+		byte[] registers = sketch.toBytes();
+		HyperLogLog restored = HyperLogLog.fromBytes(registers);
+
+		assertEquals(HyperLogLog.REGISTER_COUNT, registers.length);
+		assertArrayEquals(registers, restored.toBytes());
+		assertEquals(sketch.cardinality(), restored.cardinality());
+	}
+
+	// video_viewer_sketches.registers holds one byte per register, indexed by the top 12 hash bits
+	@Test
+	void storesOneRankBytePerRegister() {
+		HyperLogLog sketch = new HyperLogLog();
+		sketch.offer((5L << 52) | (1L << 48));
+		sketch.offer((4095L << 52) | 1L);
+
+		byte[] registers = sketch.toBytes();
+
+		assertEquals(4, registers[5]);
+		assertEquals(52, registers[4095]);
+		assertEquals(0, registers[0]);
+	}
+
+	@Test
+	void registersAreCopiedInAndOut() {
+		byte[] registers = new byte[HyperLogLog.REGISTER_COUNT];
+		HyperLogLog sketch = HyperLogLog.fromBytes(registers);
+
+		registers[0] = 10;
+		sketch.toBytes()[1] = 10;
+
+		assertArrayEquals(new byte[HyperLogLog.REGISTER_COUNT], sketch.toBytes());
+	}
+
+	@Test
+	void rejectsRegistersOfTheWrongLength() {
+		assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[HyperLogLog.REGISTER_COUNT - 1]));
+	}
+
+	private static HyperLogLog viewers(int from, int to) {
+		HyperLogLog sketch = new HyperLogLog();
+		for (int viewer = from; viewer < to; viewer++) {
+			sketch.offer(viewerHash(viewer));
+		}
+		return sketch;
+	}
+
+	private static long viewerHash(int viewer) {
+		return Hashing.hash64("viewer-" + viewer);
+	}
+}
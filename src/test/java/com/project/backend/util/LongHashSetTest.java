@@ -0,0 +1,110 @@
+package com.project.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongHashSetTest {
+
+	@Test
+	void addContainsAndRemove() {
+		LongHashSet set = new LongHashSet(4);
+
+		assertTrue(set.add(42));
+		assertFalse(set.add(42));
+		assertTrue(set.contains(42));
+		assertFalse(set.contains(43));
+		assertEquals(1, set.size());
+
+		assertTrue(set.remove(42));
+		assertFalse(set.remove(42));
+		assertFalse(set.contains(42));
+		assertEquals(0, set.size());
+	}
+
+	@Test
+	void zeroIsAnOrdinaryElement() {
+		LongHashSet set = new LongHashSet(4);
+
+		assertFalse(set.contains(0));
+		assertTrue(set.add(0));
+		assertFalse(set.add(0));
+		assertTrue(set.contains(0));
+		assertEquals(1, set.size());
+		assertTrue(set.remove(0));
+		assertFalse(set.contains(0));
+		assertEquals(0, set.size());
+	}
+
+	@Test
+	void keepsEveryElementAcrossResizes() {
+		LongHashSet set = new LongHashSet(1);
+		for (long value = -5_000; value <= 5_000; value++) {
+			assertTrue(set.add(value * 7919));
+		}
+
+		assertEquals(10_001, set.size());
+		for (long value = -5_000; value <= 5_000; value++) {
+			assertTrue(set.contains(value * 7919));
+			assertFalse(set.contains(value * 7919 + 1));
+		}
+	}
+
+	@Test
+	void removalInsideACollisionChainKeepsTheRestReachable() {
+		// A 16-slot table; six values share one home slot and two more start inside the chain
+		LongHashSet set = new LongHashSet(8);
+		List<Long> sameHome = valuesWithHome(15, 16, 6);
+		List<Long> nextHome = valuesWithHome(0, 16, 2);
+		sameHome.forEach(set::add);
+		nextHome.forEach(set::add);
+
+		for (int removed = 0; removed < sameHome.size(); removed += 2) {
+			assertTrue(set.remove(sameHome.get(removed)));
+		}
+
+		for (int i = 0; i < sameHome.size(); i++) {
+			assertEquals(i % 2 == 1, set.contains(sameHome.get(i)), "value " + i);
+		}
+		nextHome.forEach(value -> assertTrue(set.contains(value)));
+		assertEquals(5, set.size());
+	}
+
+	@Test
+	void matchesHashSetUnderRandomAddsAndRemoves() {
+		Random random = new Random(42);
+		LongHashSet set = new LongHashSet(16);
+		Set<Long> expected = new HashSet<>();
+
+		for (int step = 0; step < 200_000; step++) {
+			// A small key range keeps the table full of long chains and frequent removals
+			long value = random.nextInt(20_000) - 10_000;
+			if (random.nextBoolean()) {
+				assertEquals(expected.add(value), set.add(value));
+			} else {
+				assertEquals(expected.remove(value), set.remove(value));
+			}
+		}
+
+		assertEquals(expected.size(), set.size());
+		for (long value = -10_000; value < 10_000; value++) {
+			assertEquals(expected.contains(value), set.contains(value), "value " + value);
+		}
+	}
+
+	private static List<Long> valuesWithHome(int home, int capacity, int count) {
+		List<Long> values = new ArrayList<>();
+		for (long candidate = 1; values.size() < count; candidate++) {
+			if (((int) Hashing.mix64(candidate) & (capacity - 1)) == home) {
+				values.add(candidate);
+			}
+		}
+		return values;
+	}
+}